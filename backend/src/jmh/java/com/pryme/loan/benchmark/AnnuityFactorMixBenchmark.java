@@ -0,0 +1,80 @@
+package com.pryme.loan.benchmark;
+
+import com.pryme.loan.utils.AnnuityFactorCache;
+import com.pryme.loan.utils.FinancialUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EMI over a realistic input mix rather than one fixed loan: a few hundred rates (whole bps) x
+ * common tenures, so the annuity-factor cache sees repeats and misses the way live traffic does.
+ * Compares the old controller formula (BigDecimal.pow without a MathContext), the bounded-precision
+ * factor uncached, and FinancialUtils.calculateEmi with the cache. Scores are per EMI.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnnuityFactorMixBenchmark {
+
+    private static final int INPUTS = 4_096;
+
+    private BigDecimal[] principals;
+    private BigDecimal[] rates;
+    private int[] months;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] tenures = {60, 120, 180, 240, 300, 360};
+
+        principals = new BigDecimal[INPUTS];
+        rates = new BigDecimal[INPUTS];
+        months = new int[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            principals[i] = BigDecimal.valueOf(random.nextLong(1_00_000, 5_00_00_000));
+            rates[i] = BigDecimal.valueOf(700 + 5L * random.nextInt(0, 120), 2); // 7.00% .. 12.95% in 5 bps steps
+            months[i] = tenures[random.nextInt(tenures.length)];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void legacyControllerFormula(Blackhole bh) {
+        for (int i = 0; i < INPUTS; i++) {
+            bh.consume(legacyEmi(principals[i], rates[i], months[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void uncachedFactor(Blackhole bh) {
+        for (int i = 0; i < INPUTS; i++) {
+            bh.consume(principals[i].multiply(AnnuityFactorCache.compute(rates[i], months[i]), FinancialUtils.MC));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public void cachedFactor(Blackhole bh) {
+        for (int i = 0; i < INPUTS; i++) {
+            bh.consume(FinancialUtils.calculateEmi(principals[i], rates[i], months[i]));
+        }
+    }
+
+    // The formula CalculatorController.calculateEMI used before the shared cache
+    private static BigDecimal legacyEmi(BigDecimal p, BigDecimal rate, int n) {
+        BigDecimal r = rate.divide(BigDecimal.valueOf(12 * 100), 10, RoundingMode.HALF_UP);
+        BigDecimal onePlusR = BigDecimal.ONE.add(r);
+        BigDecimal numerator = p.multiply(r).multiply(onePlusR.pow(n));
+        BigDecimal denominator = onePlusR.pow(n).subtract(BigDecimal.ONE);
+        return numerator.divide(denominator, 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,63 @@
+package com.pryme.loan.benchmark;
+
+import com.pryme.loan.utils.AnnuityFactorCache;
+import com.pryme.loan.utils.FinancialUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EMI math: the shared FinancialUtils path (cached annuity factor), the raw factor computation
+ * it caches, and the arithmetic behind the /emi endpoint. CalculatorController itself is not
+ * built here (no services, request binding or ResponseEntity), so emiEndpointMath measures only
+ * what calculateEMI computes, not the request around it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FinancialMathBenchmark {
+
+    @Param({"5", "20", "30"})
+    public int tenureYears;
+
+    @Param({"7.25", "8.5", "14.0"})
+    public String annualRate;
+
+    private BigDecimal principal;
+    private BigDecimal rate;
+    private int months;
+
+    // The endpoint's raw query parameters
+    private double principalParam;
+    private double rateParam;
+
+    @Setup
+    public void setup() {
+        principal = new BigDecimal("5000000");
+        rate = new BigDecimal(annualRate);
+        months = tenureYears * 12;
+        principalParam = principal.doubleValue();
+        rateParam = rate.doubleValue();
+    }
+
+    @Benchmark
+    public BigDecimal calculateEmi() {
+        return FinancialUtils.calculateEmi(principal, rate, months);
+    }
+
+    @Benchmark
+    public BigDecimal annuityFactorUncached() {
+        return AnnuityFactorCache.compute(rate, months);
+    }
+
+    @Benchmark
+    public BigDecimal emiEndpointMath() {
+        // calculateEMI's positive-rate branch: doubles to BigDecimal, shared EMI path, rounding
+        return FinancialUtils.roundCurrency(
+                FinancialUtils.calculateEmi(BigDecimal.valueOf(principalParam), BigDecimal.valueOf(rateParam), months));
+    }
+}
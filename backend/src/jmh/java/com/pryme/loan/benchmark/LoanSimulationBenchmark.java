@@ -0,0 +1,75 @@
+package com.pryme.loan.benchmark;
+
+import com.pryme.loan.dto.EligibilityRequest;
+import com.pryme.loan.dto.EligibilityResponse;
+import com.pryme.loan.dto.PrePaymentRequest;
+import com.pryme.loan.dto.PrePaymentResponse;
+import com.pryme.loan.service.LoanSimulationService;
+import com.pryme.loan.service.impl.FixedPointLoanSimulationServiceImpl;
+import com.pryme.loan.service.impl.LoanSimulationServiceImpl;
+import com.pryme.loan.service.impl.YearSteppingLoanSimulationServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pre-payment simulation and eligibility for each engine (pryme.simulation.engine),
+ * called directly so the result cache in front of the engine is not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoanSimulationBenchmark {
+
+    @Param({"bigdecimal", "fixed-point", "year-step"})
+    public String engine;
+
+    @Param({"5", "20", "30"})
+    public int tenureYears;
+
+    @Param({"7.25", "8.5", "14.0"})
+    public String annualRate;
+
+    // none | 13th | stepup | both
+    @Param({"both"})
+    public String strategy;
+
+    private LoanSimulationService service;
+    private PrePaymentRequest prePaymentRequest;
+    private EligibilityRequest eligibilityRequest;
+
+    @Setup
+    public void setup() {
+        service = switch (engine) {
+            case "fixed-point" -> new FixedPointLoanSimulationServiceImpl();
+            case "year-step" -> new YearSteppingLoanSimulationServiceImpl();
+            default -> new LoanSimulationServiceImpl();
+        };
+
+        prePaymentRequest = new PrePaymentRequest();
+        prePaymentRequest.setLoanAmount(new BigDecimal("5000000"));
+        prePaymentRequest.setInterestRate(new BigDecimal(annualRate));
+        prePaymentRequest.setTenureYears(tenureYears);
+        prePaymentRequest.setEnable13thEmi(strategy.equals("13th") || strategy.equals("both"));
+        prePaymentRequest.setEnableStepUp(strategy.equals("stepup") || strategy.equals("both"));
+
+        eligibilityRequest = new EligibilityRequest();
+        eligibilityRequest.setMonthlyIncome(150000);
+        eligibilityRequest.setOccupation("salaried");
+        eligibilityRequest.setExistingEmis(20000);
+    }
+
+    @Benchmark
+    public PrePaymentResponse calculatePrePaymentSavings() {
+        return service.calculatePrePaymentSavings(prePaymentRequest);
+    }
+
+    @Benchmark
+    public EligibilityResponse checkEligibility() {
+        return service.checkEligibility(eligibilityRequest);
+    }
+}
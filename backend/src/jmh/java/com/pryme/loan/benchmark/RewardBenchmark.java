@@ -0,0 +1,71 @@
+package com.pryme.loan.benchmark;
+
+import com.pryme.loan.dto.RewardCalculationRequest;
+import com.pryme.loan.dto.RewardCalculationResponse;
+import com.pryme.loan.entity.CreditCardReward;
+import com.pryme.loan.repository.CreditCardRewardRepository;
+import com.pryme.loan.service.RewardService;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reward ranking over an in-memory card catalog of a given size.
+ * The repository is a stub that returns the same list, so only the scoring is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RewardBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int cards;
+
+    private RewardService rewardService;
+    private RewardCalculationRequest request;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<CreditCardReward> catalog = new ArrayList<>(cards);
+        for (int i = 0; i < cards; i++) {
+            CreditCardReward card = new CreditCardReward();
+            card.setId((long) i);
+            card.setCardName("Card " + i);
+            card.setDiningMultiplier(1 + random.nextInt(10));
+            card.setTravelMultiplier(1 + random.nextInt(10));
+            card.setOtherMultiplier(1);
+            card.setPointValue(0.1 + random.nextDouble() * 0.9);
+            catalog.add(card);
+        }
+        rewardService = new RewardService(stubRepository(catalog));
+
+        request = new RewardCalculationRequest();
+        request.setAnnualDiningSpend(120000);
+        request.setAnnualTravelSpend(200000);
+        request.setAnnualOtherSpend(600000);
+    }
+
+    @Benchmark
+    public List<RewardCalculationResponse> calculateBestRewards() {
+        return rewardService.calculateBestRewards(request);
+    }
+
+    // Only findAll() is answered; anything else fails loudly
+    private static CreditCardRewardRepository stubRepository(List<CreditCardReward> catalog) {
+        return (CreditCardRewardRepository) Proxy.newProxyInstance(
+                CreditCardRewardRepository.class.getClassLoader(),
+                new Class<?>[]{CreditCardRewardRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && (args == null || args.length == 0)) return catalog;
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,20 @@
+package com.pryme.loan.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class ComputeConfig {
+
+    public static final String CALCULATOR_POOL = "calculatorPool";
+
+    // Dedicated, bounded pool for CPU-heavy calculator work (batches, optimizers, simulations),
+    // so public calculator traffic never competes with the JVM common pool.
+    @Bean(name = CALCULATOR_POOL, destroyMethod = "shutdown")
+    public ForkJoinPool calculatorPool(@Value("${pryme.calculator.pool.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+}
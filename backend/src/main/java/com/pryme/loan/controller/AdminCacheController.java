@@ -0,0 +1,25 @@
+package com.pryme.loan.controller;
+
+import com.pryme.loan.dto.CacheStatsDto;
+import com.pryme.loan.service.CacheStatsRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/caches")
+@RequiredArgsConstructor
+public class AdminCacheController {
+
+    private final CacheStatsRegistry cacheStatsRegistry;
+
+    // Hit rate / eviction counters of the in-memory caches
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatsRegistry.snapshot());
+    }
+}
@@ -3,11 +3,11 @@ package com.pryme.loan.controller;
 import com.pryme.loan.dto.BlogPostRequest;
 import com.pryme.loan.entity.BlogPost;
 import com.pryme.loan.service.BlogService;
+import com.pryme.loan.service.JsonResponseCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -15,11 +15,12 @@ import java.util.List;
 public class BlogController {
 
     private final BlogService blogService;
+    private final JsonResponseCache jsonResponseCache;
 
     // --- Public Endpoints ---
     @GetMapping("/public/blogs")
-    public ResponseEntity<List<BlogPost>> getAllBlogs() {
-        return ResponseEntity.ok(blogService.getAllPosts());
+    public ResponseEntity<byte[]> getAllBlogs(WebRequest request) {
+        return jsonResponseCache.serve(JsonResponseCache.BLOGS, blogService::getAllPosts, request);
     }
 
     @GetMapping("/public/blogs/{slug}")
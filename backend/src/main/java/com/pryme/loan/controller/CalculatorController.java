@@ -1,15 +1,48 @@
 package com.pryme.loan.controller;
 
+import com.pryme.loan.dto.AprComparisonRequest;
+import com.pryme.loan.dto.AprComparisonResponse;
+import com.pryme.loan.dto.BatchCalculationRequest;
+import com.pryme.loan.dto.BatchCalculationResponse;
 import com.pryme.loan.dto.EligibilityRequest;
 import com.pryme.loan.dto.EligibilityResponse;
+import com.pryme.loan.dto.FloatingRateSimulationRequest;
+import com.pryme.loan.dto.FloatingRateSimulationResponse;
 import com.pryme.loan.dto.PrePaymentRequest;
 import com.pryme.loan.dto.PrePaymentResponse;
+import com.pryme.loan.dto.PrincipalSolveRequest;
+import com.pryme.loan.dto.PrincipalSolveResponse;
+import com.pryme.loan.dto.PrepaymentOptimizationRequest;
+import com.pryme.loan.dto.PrepaymentOptimizationResponse;
+import com.pryme.loan.dto.ProductEligibilityRequest;
+import com.pryme.loan.dto.ProductEligibilityResponse;
+import com.pryme.loan.dto.ScheduleGranularity;
+import com.pryme.loan.dto.SensitivityGridRequest;
+import com.pryme.loan.dto.SensitivityGridResponse;
+import com.pryme.loan.dto.TenureSolveRequest;
+import com.pryme.loan.dto.TenureSolveResponse;
+import com.pryme.loan.service.AmortizationScheduleWriter;
+import com.pryme.loan.service.AprComparisonService;
+import com.pryme.loan.service.BatchCalculatorService;
+import com.pryme.loan.service.CalculatorLimits;
+import com.pryme.loan.service.FloatingRateSimulationService;
 import com.pryme.loan.service.LoanSimulationService;
+import com.pryme.loan.service.LoanSolverService;
+import com.pryme.loan.service.PrepaymentOptimizerService;
+import com.pryme.loan.service.ProductEligibilityService;
+import com.pryme.loan.service.SensitivityGridService;
+import com.pryme.loan.utils.FinancialUtils;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequestMapping("/api/v1/public/calculators")
@@ -17,9 +50,30 @@ import java.math.RoundingMode;
 public class CalculatorController {
 
     private final LoanSimulationService loanSimulationService;
+    private final BatchCalculatorService batchCalculatorService;
+    private final PrepaymentOptimizerService prepaymentOptimizerService;
+    private final FloatingRateSimulationService floatingRateSimulationService;
+    private final SensitivityGridService sensitivityGridService;
+    private final ProductEligibilityService productEligibilityService;
+    private final LoanSolverService loanSolverService;
+    private final AprComparisonService aprComparisonService;
 
-    public CalculatorController(LoanSimulationService loanSimulationService) {
+    public CalculatorController(LoanSimulationService loanSimulationService,
+                                BatchCalculatorService batchCalculatorService,
+                                PrepaymentOptimizerService prepaymentOptimizerService,
+                                FloatingRateSimulationService floatingRateSimulationService,
+                                SensitivityGridService sensitivityGridService,
+                                ProductEligibilityService productEligibilityService,
+                                LoanSolverService loanSolverService,
+                                AprComparisonService aprComparisonService) {
         this.loanSimulationService = loanSimulationService;
+        this.batchCalculatorService = batchCalculatorService;
+        this.prepaymentOptimizerService = prepaymentOptimizerService;
+        this.floatingRateSimulationService = floatingRateSimulationService;
+        this.sensitivityGridService = sensitivityGridService;
+        this.productEligibilityService = productEligibilityService;
+        this.loanSolverService = loanSolverService;
+        this.aprComparisonService = aprComparisonService;
     }
 
     // 1. EMI Calculator
@@ -35,29 +89,150 @@ public class CalculatorController {
             return ResponseEntity.ok(BigDecimal.valueOf(principal).divide(totalMonths, 2, RoundingMode.HALF_UP));
         }
 
-        BigDecimal p = BigDecimal.valueOf(principal);
-        BigDecimal r = BigDecimal.valueOf(rate)
-                .divide(BigDecimal.valueOf(12 * 100), 10, RoundingMode.HALF_UP);
-        BigDecimal n = BigDecimal.valueOf(years * 12);
+        int months = (int) (years * 12);
+        if (months == 0) return ResponseEntity.ok(BigDecimal.ZERO);
 
-        BigDecimal onePlusR = BigDecimal.ONE.add(r);
-        BigDecimal numerator = p.multiply(r).multiply(onePlusR.pow(n.intValue()));
-        BigDecimal denominator = onePlusR.pow(n.intValue()).subtract(BigDecimal.ONE);
+        // Shared EMI path (cached annuity factor, bounded precision)
+        BigDecimal emi = FinancialUtils.calculateEmi(BigDecimal.valueOf(principal), BigDecimal.valueOf(rate), months);
 
-        BigDecimal emi = numerator.divide(denominator, 2, RoundingMode.HALF_UP);
+        return ResponseEntity.ok(FinancialUtils.roundCurrency(emi));
+    }
+
+    // 1b. Tenure for a target EMI ("how long to pay 25,000 a month?")
+    @GetMapping("/solve/tenure")
+    public ResponseEntity<TenureSolveResponse> solveTenure(
+            @RequestParam double principal,
+            @RequestParam double rate,
+            @RequestParam double emi) {
+
+        TenureSolveRequest request = new TenureSolveRequest();
+        request.setPrincipal(principal);
+        request.setAnnualRate(rate);
+        request.setTargetEmi(emi);
+        if (!loanSolverService.isValid(request)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(loanSolverService.solveTenure(request));
+    }
 
-        return ResponseEntity.ok(emi);
+    // 1c. Loan amount a target EMI can service
+    @GetMapping("/solve/principal")
+    public ResponseEntity<PrincipalSolveResponse> solvePrincipal(
+            @RequestParam double emi,
+            @RequestParam double rate,
+            @RequestParam int years) {
+
+        PrincipalSolveRequest request = new PrincipalSolveRequest();
+        request.setTargetEmi(emi);
+        request.setAnnualRate(rate);
+        request.setTenureYears(years);
+        if (!loanSolverService.isValid(request)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(loanSolverService.solvePrincipal(request));
     }
 
     // 2. Pre-payment Calculator
     @PostMapping("/prepayment-savings")
     public ResponseEntity<PrePaymentResponse> calculatePrePayment(@RequestBody PrePaymentRequest request) {
+        if (!CalculatorLimits.isValid(request)) {
+            return ResponseEntity.badRequest().build();
+        }
         return ResponseEntity.ok(loanSimulationService.calculatePrePaymentSavings(request));
     }
 
+    // 2b. Pre-payment Schedule (streamed row by row for charts)
+    // format: ndjson | csv, granularity: monthly | quarterly | yearly
+    @PostMapping("/prepayment-schedule")
+    public ResponseEntity<StreamingResponseBody> streamPrePaymentSchedule(
+            @RequestBody PrePaymentRequest request,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "monthly") String granularity) {
+
+        // Checked up front: once the body starts streaming there is no way to send a 400
+        if (!CalculatorLimits.isValid(request)) {
+            return ResponseEntity.badRequest().build();
+        }
+        ScheduleGranularity step;
+        try {
+            step = ScheduleGranularity.valueOf(granularity.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            AmortizationScheduleWriter sink = csv ? AmortizationScheduleWriter.csv(writer) : AmortizationScheduleWriter.ndjson(writer);
+            loanSimulationService.streamPrePaymentSchedule(request, step, sink);
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv") : MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // 2c. Pre-payment Strategy Optimizer (Pareto-best strategies within a budget)
+    @PostMapping("/prepayment-optimizer")
+    public ResponseEntity<PrepaymentOptimizationResponse> optimizePrePayment(@RequestBody PrepaymentOptimizationRequest request) {
+        if (!prepaymentOptimizerService.isValid(request)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(prepaymentOptimizerService.optimize(request));
+    }
+
+    // 2d. Pre-payment on a floating rate (Monte Carlo rate paths -> P10/P50/P90 bands)
+    @PostMapping("/prepayment-floating-rate")
+    public ResponseEntity<FloatingRateSimulationResponse> simulateFloatingRate(@RequestBody FloatingRateSimulationRequest request) {
+        if (!floatingRateSimulationService.isValid(request)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(floatingRateSimulationService.simulate(request));
+    }
+
     // 3. Eligibility Calculator (YOU WERE MISSING THIS)
     @PostMapping("/eligibility")
     public ResponseEntity<EligibilityResponse> checkEligibility(@RequestBody EligibilityRequest request) {
         return ResponseEntity.ok(loanSimulationService.checkEligibility(request));
     }
+
+    // 3a. Eligibility against every active product in the catalog (ranked offers)
+    @PostMapping("/eligibility/products")
+    public ResponseEntity<ProductEligibilityResponse> checkProductEligibility(@RequestBody ProductEligibilityRequest request) {
+        if (!productEligibilityService.isValid(request)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(productEligibilityService.checkEligibility(request));
+    }
+
+    // 3b. Sensitivity Grid (EMI / max eligible loan heatmap over rate x tenure)
+    @PostMapping("/sensitivity-grid")
+    public ResponseEntity<SensitivityGridResponse> calculateSensitivityGrid(@RequestBody SensitivityGridRequest request) {
+        if (!sensitivityGridService.isValid(request)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(sensitivityGridService.calculate(request));
+    }
+
+    // 3c. Effective APR (processing fee included) for every product, lowest first
+    @PostMapping("/apr-comparison")
+    public ResponseEntity<AprComparisonResponse> compareApr(@RequestBody AprComparisonRequest request) {
+        if (!aprComparisonService.isValid(request)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(aprComparisonService.compare(request));
+    }
+
+    // 4. Batch Calculator (comparison tables: many EMI / pre-payment / solver scenarios in one round trip)
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCalculationResponse> calculateBatch(@RequestBody BatchCalculationRequest request) {
+        if (!batchCalculatorService.isValid(request)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(batchCalculatorService.calculate(request));
+    }
 }
\ No newline at end of file
@@ -3,7 +3,9 @@ package com.pryme.loan.controller;
 import com.pryme.loan.dto.*;
 import com.pryme.loan.entity.ExternalLoan;
 import com.pryme.loan.entity.Notification;
+import com.pryme.loan.service.BalanceTransferService;
 import com.pryme.loan.service.DashboardService;
+import com.pryme.loan.service.DebtPayoffService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,6 +19,8 @@ import java.util.List;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DebtPayoffService debtPayoffService;
+    private final BalanceTransferService balanceTransferService;
 
     @GetMapping("/stats")
     public ResponseEntity<DashboardStats> getStats(Principal principal) {
@@ -46,6 +50,26 @@ public class DashboardController {
         return ResponseEntity.ok(dashboardService.getExternalLoans(principal.getName()));
     }
 
+    // Avalanche / snowball / consolidation plans across all external loans
+    @PostMapping("/external-loans/payoff-plan")
+    public ResponseEntity<DebtPayoffResponse> planPayoff(@RequestBody DebtPayoffRequest request, Principal principal) {
+        List<ExternalLoan> loans = dashboardService.getExternalLoans(principal.getName());
+        if (!debtPayoffService.isValid(loans, request)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(debtPayoffService.plan(loans, request));
+    }
+
+    // Partner products that beat each external loan after fees (top offers by net saving)
+    @PostMapping("/external-loans/balance-transfer")
+    public ResponseEntity<BalanceTransferResponse> compareBalanceTransfer(@RequestBody BalanceTransferRequest request, Principal principal) {
+        List<ExternalLoan> loans = dashboardService.getExternalLoans(principal.getName());
+        if (!balanceTransferService.isValid(loans, request)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(balanceTransferService.compare(loans, request));
+    }
+
     @GetMapping("/application/{id}")
     public ResponseEntity<ApplicationDto> getApplicationDetails(@PathVariable Long id, Principal principal) {
         return ResponseEntity.ok(dashboardService.getApplicationDetails(principal.getName(), id));
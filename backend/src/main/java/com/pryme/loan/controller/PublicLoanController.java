@@ -1,14 +1,14 @@
 package com.pryme.loan.controller;
 
-import com.pryme.loan.dto.PublicLoanProductDto;
+import com.pryme.loan.dto.PublicLoanQuery;
+import com.pryme.loan.service.JsonResponseCache;
 import com.pryme.loan.service.PublicLoanService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/public/loans")
@@ -16,9 +16,18 @@ import java.util.List;
 public class PublicLoanController {
 
     private final PublicLoanService publicLoanService;
+    private final JsonResponseCache jsonResponseCache;
 
+    // No parameters: the whole list as pre-serialized (and pre-gzipped) bytes, 304 on a matching If-None-Match
+    // Any filter / sort / cursor / limit: one keyset page from the database
     @GetMapping
-    public ResponseEntity<List<PublicLoanProductDto>> getAllLoans() {
-        return ResponseEntity.ok(publicLoanService.getAllLoanProducts());
+    public ResponseEntity<?> getAllLoans(PublicLoanQuery query, WebRequest request) {
+        if (publicLoanService.isUnfiltered(query)) {
+            return jsonResponseCache.serve(JsonResponseCache.LOANS, publicLoanService::getAllLoanProducts, request);
+        }
+        if (!publicLoanService.isValid(query)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(publicLoanService.searchLoans(query));
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.pryme.loan.controller;
 
+import com.pryme.loan.dto.RankedRecommendationResponse;
 import com.pryme.loan.dto.RecommendationRequest;
 import com.pryme.loan.entity.LoanProduct;
 import com.pryme.loan.service.BankRecommendationService;
@@ -24,4 +25,13 @@ public class RecommendationController {
         List<LoanProduct> offers = recommendationService.getEligibleLoans(request);
         return ResponseEntity.ok(offers);
     }
+
+    // Top products for the requested amount, scored on EMI, FOIR headroom, fee and total interest
+    @PostMapping("/ranked")
+    public ResponseEntity<RankedRecommendationResponse> rankRecommendations(@RequestBody RecommendationRequest request) {
+        if (!recommendationService.isValidForRanking(request)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(recommendationService.rankLoans(request));
+    }
 }
\ No newline at end of file
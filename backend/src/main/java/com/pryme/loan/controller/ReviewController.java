@@ -3,9 +3,11 @@ package com.pryme.loan.controller;
 import com.pryme.loan.dto.ReviewRequest;
 import com.pryme.loan.entity.Review;
 import com.pryme.loan.service.ReviewService;
+import com.pryme.loan.service.JsonResponseCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -15,11 +17,12 @@ import java.util.List;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final JsonResponseCache jsonResponseCache;
 
     // --- Public Endpoints ---
     @GetMapping("/public/reviews")
-    public ResponseEntity<List<Review>> getFeaturedReviews() {
-        return ResponseEntity.ok(reviewService.getFeaturedReviews());
+    public ResponseEntity<byte[]> getFeaturedReviews(WebRequest request) {
+        return jsonResponseCache.serve(JsonResponseCache.REVIEWS, reviewService::getFeaturedReviews, request);
     }
 
     // --- Admin Endpoints ---
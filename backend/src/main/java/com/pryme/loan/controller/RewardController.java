@@ -2,12 +2,21 @@ package com.pryme.loan.controller;
 
 import com.pryme.loan.dto.RewardCalculationRequest;
 import com.pryme.loan.dto.RewardCalculationResponse;
+import com.pryme.loan.dto.RewardPortfolioRequest;
+import com.pryme.loan.dto.RewardPortfolioResponse;
+import com.pryme.loan.dto.StatementRewardResponse;
 import com.pryme.loan.entity.CreditCardReward;
+import com.pryme.loan.service.RewardPortfolioService;
 import com.pryme.loan.service.RewardService;
+import com.pryme.loan.service.StatementImportService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -16,6 +25,8 @@ import java.util.List;
 public class RewardController {
 
     private final RewardService rewardService;
+    private final RewardPortfolioService rewardPortfolioService;
+    private final StatementImportService statementImportService;
 
     // --- Public: Calculator ---
     @PostMapping("/public/calculate/rewards")
@@ -23,6 +34,37 @@ public class RewardController {
         return ResponseEntity.ok(rewardService.calculateBestRewards(request));
     }
 
+    // Best 1-3 card combinations with the spend split between them
+    @PostMapping("/public/calculate/rewards/portfolio")
+    public ResponseEntity<RewardPortfolioResponse> optimizePortfolio(@RequestBody RewardPortfolioRequest request) {
+        if (!rewardPortfolioService.isValid(request)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(rewardPortfolioService.optimize(request));
+    }
+
+    // Same ranking, with the spend read off an uploaded CSV / OFX statement covering `months` months
+    @PostMapping(value = "/public/calculate/rewards/statement", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StatementRewardResponse> calculateRewardsFromStatement(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "months", defaultValue = "12") int months,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+
+        // 1. Validation
+        if (file.isEmpty() || months < 1 || months > StatementImportService.MAX_MONTHS || (limit != null && limit < 1)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 2. Streamed straight from the upload
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(statementImportService.importStatement(in, months, limit));
+        } catch (IllegalArgumentException e) { // Not a statement we can read
+            return ResponseEntity.badRequest().build();
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read the statement", e);
+        }
+    }
+
     // --- Admin: Config Management ---
     @PostMapping("/admin/rewards/config")
     public ResponseEntity<CreditCardReward> addCardConfig(@RequestBody CreditCardReward card) {
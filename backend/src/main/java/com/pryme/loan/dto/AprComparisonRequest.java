@@ -0,0 +1,13 @@
+package com.pryme.loan.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class AprComparisonRequest {
+    private BigDecimal loanAmount;
+    private Integer tenureYears;
+    private String productType; // Optional filter, e.g. "Personal Loan"
+    private Integer limit;      // Max products returned
+}
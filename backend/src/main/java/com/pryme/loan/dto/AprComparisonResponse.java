@@ -0,0 +1,11 @@
+package com.pryme.loan.dto;
+
+import java.util.List;
+
+public record AprComparisonResponse(
+        long loanAmount,
+        int tenureMonths,
+        int productsCompared,
+        int productsNotComparable,   // Fee at or above the amount (nothing disbursed), so no APR
+        List<ProductAprDto> products // Lowest APR first
+) {}
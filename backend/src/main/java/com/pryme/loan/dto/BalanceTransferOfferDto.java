@@ -0,0 +1,24 @@
+package com.pryme.loan.dto;
+
+import java.util.UUID;
+
+public record BalanceTransferOfferDto(
+        // Current loan
+        UUID loanId,
+        String currentBank,
+        String loanType,
+        double currentRate,
+        int remainingMonths,
+        long currentEmi,
+        long currentInterest,   // Still to pay if nothing changes
+
+        // Offer (same remaining tenure)
+        Long productId,
+        String bankName,
+        double interestRate,
+        long newEmi,
+        long newInterest,
+        long processingFee,
+        long netSaving,         // currentInterest - newInterest - processingFee
+        int breakEvenMonth      // Month the EMI savings have paid back the fee
+) {}
@@ -0,0 +1,18 @@
+package com.pryme.loan.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+public class BalanceTransferRequest {
+    private Map<UUID, BigDecimal> interestRates; // Annual % per external loan id, required for every loan
+
+    // Optional: only products the user qualifies for
+    private BigDecimal monthlyIncome;
+    private Integer cibilScore;
+
+    private Integer limit; // Top offers returned
+}
@@ -0,0 +1,8 @@
+package com.pryme.loan.dto;
+
+import java.util.List;
+
+public record BalanceTransferResponse(
+        int offersEvaluated,
+        List<BalanceTransferOfferDto> offers // Largest net saving first
+) {}
@@ -0,0 +1,13 @@
+package com.pryme.loan.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchCalculationRequest {
+    private List<EmiRequest> emi;               // Optional: EMI scenarios
+    private List<PrePaymentRequest> prepayment; // Optional: pre-payment scenarios
+    private List<TenureSolveRequest> tenure;    // Optional: tenure-for-EMI solves
+    private List<PrincipalSolveRequest> principal; // Optional: amount-for-EMI solves
+}
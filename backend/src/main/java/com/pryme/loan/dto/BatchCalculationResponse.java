@@ -0,0 +1,16 @@
+package com.pryme.loan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+// Results are in the same order as the scenarios in BatchCalculationRequest
+@Data
+@AllArgsConstructor
+public class BatchCalculationResponse {
+    private List<EmiResponse> emi;
+    private List<PrePaymentResponse> prepayment;
+    private List<TenureSolveResponse> tenure;
+    private List<PrincipalSolveResponse> principal;
+}
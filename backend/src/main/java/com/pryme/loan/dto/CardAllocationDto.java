@@ -0,0 +1,11 @@
+package com.pryme.loan.dto;
+
+public record CardAllocationDto(
+        Long cardId,
+        String cardName,
+        long diningSpend,   // Annual spend routed to this card
+        long travelSpend,
+        long otherSpend,
+        long annualRewards, // Value earned on this card
+        long annualFee
+) {}
@@ -0,0 +1,10 @@
+package com.pryme.loan.dto;
+
+public record ConsolidationDto(
+        Long productId,
+        String bankName,
+        double interestRate,
+        long processingFee,
+        long emi,
+        int tenureMonths
+) {}
@@ -0,0 +1,17 @@
+package com.pryme.loan.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+public class DebtPayoffRequest {
+    private BigDecimal extraMonthlyBudget;        // Paid on top of the current EMIs every month
+    private Map<UUID, BigDecimal> interestRates;  // Annual % per external loan id, required for every loan
+
+    // Consolidation: a specific catalog product, else the cheapest one that fits
+    private Long consolidationProductId;
+    private String consolidationLoanType;         // e.g. "Personal Loan"
+}
@@ -0,0 +1,10 @@
+package com.pryme.loan.dto;
+
+import java.util.List;
+
+public record DebtPayoffResponse(
+        long totalOutstanding,
+        long monthlyBudget,          // Current EMIs + extra
+        PayoffPlanDto minimumPayments,
+        List<PayoffPlanDto> strategies
+) {}
@@ -0,0 +1,23 @@
+package com.pryme.loan.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class FloatingRateSimulationRequest {
+    private BigDecimal loanAmount;
+    private BigDecimal interestRate; // Starting annual rate in %
+    private Integer tenureYears;
+    private boolean enable13thEmi;
+    private boolean enableStepUp;    // 5% increase
+
+    // Rate model (mean-reverting); anything left null falls back to a default
+    private Integer paths;                  // Number of simulated rate paths
+    private BigDecimal longRunRate;         // Level the rate drifts back to, default = interestRate
+    private BigDecimal meanReversionSpeed;  // Per year, default 0.3
+    private BigDecimal volatility;          // Annual std-dev in % points, default 1.0
+    private BigDecimal rateFloor;           // Lowest rate a path may reach, default 0
+    private Integer resetMonths;            // How often the lender re-prices, default 3 (quarterly)
+    private Long seed;                      // Same seed => same result
+}
@@ -0,0 +1,17 @@
+package com.pryme.loan.dto;
+
+import java.math.BigDecimal;
+
+public record FloatingRateSimulationResponse(
+        int paths,                    // Simulated (fewer than requested when the time budget ran out)
+        boolean truncated,            // Time budget hit: the bands cover only the paths that ran
+        long seed,
+        BigDecimal regularEmi,        // At the starting rate
+        PercentileBandDto regularTotalInterest,
+        PercentileBandDto newTotalInterest,
+        PercentileBandDto interestSaved,
+        PercentileBandDto originalMonths,
+        PercentileBandDto newMonths,
+        PercentileBandDto regularShortfall, // Still owed after the last EMI, settled as a final payment
+        PercentileBandDto newShortfall
+) {}
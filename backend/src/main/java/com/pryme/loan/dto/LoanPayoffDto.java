@@ -0,0 +1,10 @@
+package com.pryme.loan.dto;
+
+import java.util.UUID;
+
+public record LoanPayoffDto(
+        UUID loanId,
+        String bankName,
+        String loanType,
+        int payoffMonth // Month (from today) in which this loan closes, 0 if it never does
+) {}
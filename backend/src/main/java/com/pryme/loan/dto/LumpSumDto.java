@@ -0,0 +1,8 @@
+package com.pryme.loan.dto;
+
+import java.math.BigDecimal;
+
+public record LumpSumDto(
+        int month,         // 1-based month of the loan in which the lump sum is paid
+        BigDecimal amount
+) {}
@@ -0,0 +1,14 @@
+package com.pryme.loan.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record OptimizedStrategyDto(
+        BigDecimal extraPerYear,
+        BigDecimal stepUpPercent,
+        List<Integer> lumpSumMonths, // Months of the lump sums this strategy uses
+        BigDecimal extraPaid,        // Cash paid above the regular EMI
+        BigDecimal interestSaved,
+        int newMonths,
+        int monthsSaved
+) {}
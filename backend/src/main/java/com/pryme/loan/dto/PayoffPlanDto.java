@@ -0,0 +1,15 @@
+package com.pryme.loan.dto;
+
+import java.util.List;
+
+public record PayoffPlanDto(
+        String strategy,             // "minimum", "avalanche", "snowball", "consolidation"
+        boolean paidOff,             // False if the debt outlives the planning horizon
+        int months,
+        long totalInterest,          // Includes the processing fee for consolidation
+        long interestSaved,          // Against minimum payments
+        int monthsSaved,
+        List<LoanPayoffDto> loans,   // Payoff month per loan (empty for consolidation)
+        long[] yearlyBalance,        // Total outstanding at the end of each year
+        ConsolidationDto consolidation // Only for "consolidation"
+) {}
@@ -0,0 +1,9 @@
+package com.pryme.loan.dto;
+
+import java.math.BigDecimal;
+
+public record PercentileBandDto(
+        BigDecimal p10,
+        BigDecimal p50,
+        BigDecimal p90
+) {}
@@ -0,0 +1,18 @@
+package com.pryme.loan.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+public class PrepaymentOptimizationRequest {
+    private BigDecimal loanAmount;
+    private BigDecimal interestRate; // Annual rate in %
+    private Integer tenureYears;
+
+    // Budget: the optimizer searches everything up to these limits
+    private BigDecimal maxExtraPerYear;  // Extra payment at each year end
+    private BigDecimal maxStepUpPercent; // Yearly EMI increase, e.g. 10 for 10%
+    private List<LumpSumDto> lumpSums;   // Optional one-off payments; each may be used or skipped
+}
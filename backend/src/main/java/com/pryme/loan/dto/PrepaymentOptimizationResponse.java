@@ -0,0 +1,12 @@
+package com.pryme.loan.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record PrepaymentOptimizationResponse(
+        BigDecimal regularEmi,
+        BigDecimal regularTotalInterest,
+        int candidatesEvaluated,
+        int candidatesPruned,
+        List<OptimizedStrategyDto> paretoStrategies // Sorted by extraPaid ascending
+) {}
@@ -0,0 +1,10 @@
+package com.pryme.loan.dto;
+
+import lombok.Data;
+
+@Data
+public class PrincipalSolveRequest {
+    private double targetEmi;
+    private double annualRate;
+    private int tenureYears;
+}
@@ -0,0 +1,12 @@
+package com.pryme.loan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PrincipalSolveResponse {
+    private double principal;    // Largest loan (whole rupees) the EMI can service
+    private double totalInterest;
+    private double totalPayment;
+}
@@ -0,0 +1,13 @@
+package com.pryme.loan.dto;
+
+public record ProductAprDto(
+        Long productId,
+        String bankName,
+        String loanType,
+        double interestRate,        // Nominal annual %
+        long processingFee,         // Rupees for this loan amount
+        long emi,
+        double apr,                 // Annual % = 12 x monthly IRR including the fee
+        double effectiveAnnualRate, // Annual % compounded, (1 + IRR)^12 - 1
+        long totalCost              // Interest + processing fee
+) {}
@@ -0,0 +1,18 @@
+package com.pryme.loan.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class ProductEligibilityRequest {
+    private double monthlyIncome;
+    private String occupation;        // "salaried", "self-employed", "professional"
+    private BigDecimal foir;          // Optional override, e.g. 0.55; default comes from occupation
+    private double existingEmis;
+    private int cibilScore;
+
+    private String productType;       // Optional filter, e.g. "Home Loan"
+    private BigDecimal requestedAmount; // Optional: only offers that can lend this much, EMI for this amount
+    private Integer limit;            // Max offers returned
+}
@@ -0,0 +1,9 @@
+package com.pryme.loan.dto;
+
+import java.util.List;
+
+public record ProductEligibilityResponse(
+        long maxEmiCapacity,
+        int catalogSize,          // Active products with readable terms
+        List<ProductOfferDto> offers // Cheapest rate first
+) {}
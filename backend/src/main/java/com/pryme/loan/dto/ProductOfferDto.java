@@ -0,0 +1,11 @@
+package com.pryme.loan.dto;
+
+public record ProductOfferDto(
+        Long productId,
+        String bankName,
+        String loanType,
+        double interestRate,    // Annual %
+        int tenureMonths,       // Longest tenure the product offers
+        long maxSanctionAmount, // What the user can get from this product
+        long emi                // For the requested amount, or for maxSanctionAmount
+) {}
@@ -0,0 +1,8 @@
+package com.pryme.loan.dto;
+
+import java.util.List;
+
+public record PublicLoanPageResponse(
+        List<PublicLoanProductDto> products,
+        String nextCursor // null on the last page
+) {}
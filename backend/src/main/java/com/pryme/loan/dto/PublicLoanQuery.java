@@ -0,0 +1,19 @@
+package com.pryme.loan.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+// Query parameters of GET /api/v1/public/loans (all optional; none = the whole cached list)
+@Data
+public class PublicLoanQuery {
+    private String type;           // e.g. "Personal Loan"
+    private String bank;           // Bank name, case-insensitive
+    private BigDecimal maxRate;    // Annual %, e.g. 11.5
+    private BigDecimal minAmount;  // Rupees the product must lend up to
+    private Integer minTenure;     // Months; products whose tenure range overlaps [minTenure, maxTenure]
+    private Integer maxTenure;
+    private String sort;           // "rate" (default) or "fee", lowest first
+    private String cursor;         // nextCursor of the previous page
+    private Integer limit;         // Page size (default 20, max 100)
+}
@@ -0,0 +1,10 @@
+package com.pryme.loan.dto;
+
+import java.util.List;
+
+public record RankedRecommendationResponse(
+        long emiCapacity,
+        int eligibleProducts, // Meet salary / CIBIL / max amount
+        int unaffordable,     // Of those, EMI above the remaining capacity
+        List<ScoredRecommendationDto> recommendations // Best score first
+) {}
@@ -6,5 +6,8 @@ public record RecommendationRequest(
         String productType,      // e.g., "PERSONAL", "HOME", "BUSINESS"
         BigDecimal monthlyIncome,
         int cibilScore,
-        BigDecimal requestedAmount
-) {}
\ No newline at end of file
+        BigDecimal requestedAmount,
+        BigDecimal existingEmis, // Optional (ranked): EMIs already being paid
+        String occupation,       // Optional (ranked): "salaried" (default), "self-employed", "professional"
+        Integer limit            // Optional (ranked): top N (default 10)
+) {}
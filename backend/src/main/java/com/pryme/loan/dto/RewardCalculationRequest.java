@@ -7,4 +7,5 @@ public class RewardCalculationRequest {
     private double annualDiningSpend;
     private double annualTravelSpend;
     private double annualOtherSpend;
+    private Integer limit; // Optional: only the best N cards (default: all, best first)
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.pryme.loan.dto;
+
+import java.util.List;
+
+public record RewardPortfolioDto(
+        List<CardAllocationDto> cards,
+        long annualRewards,
+        long annualFees,
+        long netAnnualValue // annualRewards - annualFees
+) {}
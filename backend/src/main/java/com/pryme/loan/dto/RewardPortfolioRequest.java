@@ -0,0 +1,17 @@
+package com.pryme.loan.dto;
+
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+public class RewardPortfolioRequest {
+    private double annualDiningSpend;
+    private double annualTravelSpend;
+    private double annualOtherSpend;
+
+    private Integer maxCards;               // Cards per portfolio, 1-3 (default 2)
+    private Integer limit;                  // Portfolios returned (default 5)
+    private Map<Long, Double> annualFees;   // Optional: fee per card id
+    private Map<Long, Double> rewardCaps;   // Optional: max reward value (Rs) a card pays out per year
+}
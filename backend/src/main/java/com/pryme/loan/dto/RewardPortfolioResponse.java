@@ -0,0 +1,9 @@
+package com.pryme.loan.dto;
+
+import java.util.List;
+
+public record RewardPortfolioResponse(
+        int candidateCards,       // Cards left after dominance pruning
+        long portfoliosEvaluated,
+        List<RewardPortfolioDto> portfolios // Best net value first
+) {}
@@ -0,0 +1,16 @@
+package com.pryme.loan.dto;
+
+// Down-sampling step for the amortization schedule stream
+public enum ScheduleGranularity {
+    MONTHLY(1),
+    QUARTERLY(3),
+    YEARLY(12);
+
+    private final int months;
+
+    ScheduleGranularity(int months) {
+        this.months = months;
+    }
+
+    public int getMonths() { return months; }
+}
@@ -0,0 +1,15 @@
+package com.pryme.loan.dto;
+
+public record ScoredRecommendationDto(
+        long productId,
+        String bankName,
+        String type,
+        double interestRate,
+        int tenureMonths,
+        long emi,            // For the requested amount over the longest tenure
+        long foirHeadroom,   // EMI capacity left after this EMI
+        long processingFee,
+        long totalInterest,
+        long totalCost,      // Interest + processing fee
+        double score         // Higher is better
+) {}
@@ -0,0 +1,24 @@
+package com.pryme.loan.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class SensitivityGridRequest {
+    // EMI grid (optional): EMI for this loan at every rate x tenure
+    private BigDecimal loanAmount;
+
+    // Eligibility grid (optional): max loan for this income at every rate x tenure
+    private Double monthlyIncome;
+    private String occupation; // "salaried", "self-employed", "professional"
+    private Double existingEmis;
+
+    // Axes, annual rate in % and tenure in years (nulls fall back to 7-12% step 0.25, 5-30y step 1)
+    private BigDecimal minRate;
+    private BigDecimal maxRate;
+    private BigDecimal rateStep;
+    private Integer minTenureYears;
+    private Integer maxTenureYears;
+    private Integer tenureStepYears;
+}
@@ -0,0 +1,13 @@
+package com.pryme.loan.dto;
+
+/**
+ * Columnar grid: cell (i, j) for rates[i] and tenureYears[j] sits at index i * tenureYears.length + j.
+ * A metric array is null when the request did not ask for it.
+ */
+public record SensitivityGridResponse(
+        double[] rates,
+        int[] tenureYears,
+        long[] emi,              // Whole rupees
+        long[] maxLoanAmount,    // Whole rupees
+        long maxEmiCapacity      // Same for every cell (income x FOIR - existing EMIs)
+) {}
@@ -0,0 +1,12 @@
+package com.pryme.loan.dto;
+
+import java.util.List;
+
+public record StatementRewardResponse(
+        int transactions,       // Purchases counted (credits, payments and refunds are left out)
+        int skippedLines,       // Rows with no readable amount
+        long annualDiningSpend, // Spend scaled to 12 months
+        long annualTravelSpend,
+        long annualOtherSpend,
+        List<RewardCalculationResponse> rewards // Best card first
+) {}
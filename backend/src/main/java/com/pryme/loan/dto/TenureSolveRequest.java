@@ -0,0 +1,10 @@
+package com.pryme.loan.dto;
+
+import lombok.Data;
+
+@Data
+public class TenureSolveRequest {
+    private double principal;
+    private double annualRate;
+    private double targetEmi;
+}
@@ -0,0 +1,14 @@
+package com.pryme.loan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class TenureSolveResponse {
+    private boolean feasible;    // False if the EMI cannot clear the loan within the max tenure
+    private int tenureMonths;
+    private double monthlyEmi;   // Actual EMI at that tenure (<= target)
+    private double totalInterest;
+    private double totalPayment;
+}
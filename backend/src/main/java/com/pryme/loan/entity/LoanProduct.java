@@ -2,12 +2,20 @@ package com.pryme.loan.entity;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
+import com.pryme.loan.utils.LoanTermsParser;
 import lombok.Data;
 import java.math.BigDecimal;
 
 @Data
 @Entity
-@Table(name = "loan_products")
+@Table(name = "loan_products", indexes = {
+        @Index(name = "idx_loan_products_type_rate", columnList = "type, rate_bps"),
+        @Index(name = "idx_loan_products_type_fee", columnList = "type, fee_bps, fee_flat_paise"),
+        @Index(name = "idx_loan_products_bank_rate", columnList = "bank_id, rate_bps"),
+        @Index(name = "idx_loan_products_bank_fee", columnList = "bank_id, fee_bps, fee_flat_paise"),
+        @Index(name = "idx_loan_products_rate", columnList = "rate_bps"),
+        @Index(name = "idx_loan_products_fee", columnList = "fee_bps, fee_flat_paise")
+})
 public class LoanProduct {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -30,4 +38,35 @@ public class LoanProduct {
 
     private BigDecimal minSalary;
     private Integer minCibil;
+
+    // Numeric copies of the text terms above, derived on every write (null = not stated / unreadable)
+    private Integer rateBps;         // 10.5% -> 1050
+    private Integer feeBps;          // Percentage part of the processing fee
+    private Long feeFlatPaise;       // Flat part
+    private Long feeCapPaise;        // "max Rs 10,000" -> 1000000
+    private Long feeFloorPaise;      // "min Rs 5,000" -> 500000 (0 = none; null = not derived yet)
+    private Long maxAmountPaise;     // "50 Lakhs" -> 500000000
+    private Integer minTenureMonths; // "1-5 Years" -> 12
+    private Integer maxTenureMonths; // "1-5 Years" -> 60
+
+    @PrePersist
+    @PreUpdate
+    public void deriveNumericTerms() {
+        double rate = LoanTermsParser.parseRate(interestRate);
+        rateBps = Double.isNaN(rate) ? null : (int) Math.round(rate * 100);
+
+        LoanTermsParser.Fee fee = LoanTermsParser.parseFee(processingFee);
+        feeBps = (int) Math.round(fee.percent() * 100);
+        feeFlatPaise = Math.round(fee.flat() * 100);
+        feeCapPaise = Double.isInfinite(fee.cap()) ? null : Math.round(fee.cap() * 100);
+        feeFloorPaise = Math.round(fee.floor() * 100);
+
+        double amount = LoanTermsParser.parseAmount(maxAmount);
+        maxAmountPaise = Double.isNaN(amount) ? null : Math.round(amount * 100);
+
+        int minMonths = LoanTermsParser.parseMinTenureMonths(tenure);
+        int maxMonths = LoanTermsParser.parseMaxTenureMonths(tenure);
+        minTenureMonths = minMonths > 0 ? minMonths : null;
+        maxTenureMonths = maxMonths > 0 ? maxMonths : null;
+    }
 }
\ No newline at end of file
@@ -4,6 +4,11 @@ import com.pryme.loan.entity.Bank;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface BankRepository extends JpaRepository<Bank, Long> {
+
+    // Public loan catalog bank filter
+    List<Bank> findByNameIgnoreCase(String name);
 }
\ No newline at end of file
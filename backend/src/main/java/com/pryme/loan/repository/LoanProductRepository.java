@@ -2,13 +2,15 @@ package com.pryme.loan.repository;
 
 import com.pryme.loan.entity.LoanProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.util.List;
 
 @Repository
-public interface LoanProductRepository extends JpaRepository<LoanProduct, Long> {
+public interface LoanProductRepository extends JpaRepository<LoanProduct, Long>, JpaSpecificationExecutor<LoanProduct> {
 
     // Used by Recommendation Engine (Day 6)
     List<LoanProduct> findByTypeAndMinSalaryLessThanEqualAndMinCibilLessThanEqual(
@@ -17,6 +19,13 @@ public interface LoanProductRepository extends JpaRepository<LoanProduct, Long>
             int cibilScore
     );
 
+    // Catalog snapshots and index: products with their bank in one query (no per-product bank fetch)
+    @Query("select p from LoanProduct p left join fetch p.bank")
+    List<LoanProduct> findAllWithBank();
+
     // Used by Admin Bank Manager (Day 9) 
     List<LoanProduct> findByBankId(Long bankId);
+
+    // Numeric terms backfill (LoanTermsBackfillJob), keyset by id
+    List<LoanProduct> findTop500ByFeeFloorPaiseIsNullAndIdGreaterThanOrderByIdAsc(Long id);
 }
\ No newline at end of file
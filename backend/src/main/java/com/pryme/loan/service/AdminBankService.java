@@ -12,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -19,6 +20,10 @@ public class AdminBankService {
 
     private final BankRepository bankRepository;
     private final LoanProductRepository loanProductRepository;
+    private final LoanCatalogService loanCatalogService;
+    private final PublicLoanService publicLoanService;
+    private final JsonResponseCache jsonResponseCache;
+    private final EligibilityBucketService eligibilityBucketService;
 
     // --- BANK OPERATIONS ---
 
@@ -42,21 +47,30 @@ public class AdminBankService {
         bank.setLogoUrl(dto.logoUrl());
         bank.setActive(dto.active());
         bank.setBaseInterestRate(dto.baseInterestRate());
-        return bankRepository.save(bank);
+        Bank saved = bankRepository.save(bank);
+        catalogChanged();
+        invalidateBuckets(loanProductRepository.findByBankId(id));
+        return saved;
     }
 
     public void deleteBank(Long id) {
         if (!bankRepository.existsById(id)) {
             throw new RuntimeException("Bank not found");
         }
+        List<LoanProduct> products = loanProductRepository.findByBankId(id);
         bankRepository.deleteById(id);
+        catalogChanged();
+        invalidateBuckets(products);
     }
 
     public Bank toggleVisibility(Long id) {
         Bank bank = bankRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Bank not found"));
         bank.setActive(!bank.isActive());
-        return bankRepository.save(bank);
+        Bank saved = bankRepository.save(bank);
+        catalogChanged();
+        invalidateBuckets(loanProductRepository.findByBankId(id));
+        return saved;
     }
 
     @Transactional
@@ -86,12 +100,16 @@ public class AdminBankService {
         product.setMinSalary(BigDecimal.ZERO);
         product.setMinCibil(0);
 
-        return loanProductRepository.save(product);
+        LoanProduct saved = loanProductRepository.save(product);
+        catalogChanged();
+        invalidateBuckets(saved);
+        return saved;
     }
 
     public LoanProduct updateProduct(Long id, LoanProductDto dto) {
         LoanProduct product = loanProductRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Product not found"));
+        String previousType = product.getType();
 
         product.setType(dto.type());
         product.setInterestRate(dto.interestRate());
@@ -100,14 +118,21 @@ public class AdminBankService {
         product.setTenure(dto.tenure());
         product.setFeatures(dto.features());
 
-        return loanProductRepository.save(product);
+        LoanProduct saved = loanProductRepository.save(product);
+        catalogChanged();
+        if (!Objects.equals(previousType, saved.getType())) {
+            eligibilityBucketService.invalidate(previousType, saved.getMinCibil(), saved.getMinSalary());
+        }
+        invalidateBuckets(saved);
+        return saved;
     }
 
     public void deleteProduct(Long id) {
-        if (!loanProductRepository.existsById(id)) {
-            throw new RuntimeException("Product not found");
-        }
+        LoanProduct product = loanProductRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Product not found"));
         loanProductRepository.deleteById(id);
+        catalogChanged();
+        invalidateBuckets(product);
     }
 
     @Transactional
@@ -116,5 +141,23 @@ public class AdminBankService {
                 .orElseThrow(() -> new RuntimeException("Product not found"));
         product.setInterestRate(newRate.toString() + "%");
         loanProductRepository.save(product);
+        catalogChanged();
+        invalidateBuckets(product);
+    }
+
+    // Every in-memory copy of the catalog (each drops after the commit)
+    private void catalogChanged() {
+        loanCatalogService.invalidate();
+        publicLoanService.invalidate();
+        jsonResponseCache.invalidate(JsonResponseCache.LOANS); // After the snapshot, so it re-serializes the new one
+    }
+
+    // Only the eligibility cells these products can appear in (always after the catalog itself)
+    private void invalidateBuckets(List<LoanProduct> products) {
+        products.forEach(this::invalidateBuckets);
+    }
+
+    private void invalidateBuckets(LoanProduct product) {
+        eligibilityBucketService.invalidate(product.getType(), product.getMinCibil(), product.getMinSalary());
     }
 }
\ No newline at end of file
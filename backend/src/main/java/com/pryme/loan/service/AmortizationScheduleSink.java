@@ -0,0 +1,11 @@
+package com.pryme.loan.service;
+
+/**
+ * Receives amortization schedule rows as the simulation produces them.
+ * Amounts are whole rupees; payment/principal/interest are summed over the period,
+ * balance is the closing balance at the end of the period.
+ */
+public interface AmortizationScheduleSink {
+
+    void row(String scenario, int period, int month, long payment, long principal, long interest, long balance);
+}
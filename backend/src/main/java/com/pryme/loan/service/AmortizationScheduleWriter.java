@@ -0,0 +1,72 @@
+package com.pryme.loan.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Writes schedule rows straight to the response as NDJSON or CSV, one line per row.
+ * Nothing is buffered beyond the underlying Writer.
+ */
+public class AmortizationScheduleWriter implements AmortizationScheduleSink {
+
+    public static final String CSV_HEADER = "scenario,period,month,payment,principal,interest,balance\n";
+
+    private final Writer writer;
+    private final boolean csv;
+
+    private AmortizationScheduleWriter(Writer writer, boolean csv) {
+        this.writer = writer;
+        this.csv = csv;
+    }
+
+    public static AmortizationScheduleWriter ndjson(Writer writer) {
+        return new AmortizationScheduleWriter(writer, false);
+    }
+
+    public static AmortizationScheduleWriter csv(Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        return new AmortizationScheduleWriter(writer, true);
+    }
+
+    @Override
+    public void row(String scenario, int period, int month, long payment, long principal, long interest, long balance) {
+        try {
+            if (csv) {
+                writer.write(scenario);
+                writer.write(',');
+                writer.write(Integer.toString(period));
+                writer.write(',');
+                writer.write(Integer.toString(month));
+                writer.write(',');
+                writer.write(Long.toString(payment));
+                writer.write(',');
+                writer.write(Long.toString(principal));
+                writer.write(',');
+                writer.write(Long.toString(interest));
+                writer.write(',');
+                writer.write(Long.toString(balance));
+            } else {
+                writer.write("{\"scenario\":\"");
+                writer.write(scenario);
+                writer.write("\",\"period\":");
+                writer.write(Integer.toString(period));
+                writer.write(",\"month\":");
+                writer.write(Integer.toString(month));
+                writer.write(",\"payment\":");
+                writer.write(Long.toString(payment));
+                writer.write(",\"principal\":");
+                writer.write(Long.toString(principal));
+                writer.write(",\"interest\":");
+                writer.write(Long.toString(interest));
+                writer.write(",\"balance\":");
+                writer.write(Long.toString(balance));
+                writer.write('}');
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            // Client went away mid-stream; abort the simulation loop
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.dto.AprComparisonRequest;
+import com.pryme.loan.dto.AprComparisonResponse;
+import com.pryme.loan.dto.ProductAprDto;
+import com.pryme.loan.utils.FinancialUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ranks catalog products by true cost: the APR (IRR) of receiving amount - processing fee
+ * and paying the product's EMI for the tenure.
+ *
+ * Newton starts from the nominal rate plus the N-ratio estimate of the fee, 2 x fee / (P x (n+1)),
+ * so it usually settles in 2-3 steps. A fee can only raise the APR above the nominal rate and the
+ * snapshot is in nominal-rate order, so the scan stops once the next nominal rate cannot beat
+ * the worst APR kept.
+ */
+@Service
+@RequiredArgsConstructor
+public class AprComparisonService {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 200;
+
+    private final LoanCatalogService loanCatalogService;
+
+    public boolean isValid(AprComparisonRequest request) {
+        if (request.getLoanAmount() == null || request.getLoanAmount().signum() <= 0
+                || request.getLoanAmount().compareTo(CalculatorLimits.MAX_AMOUNT) > 0) return false;
+        if (request.getTenureYears() == null || request.getTenureYears() <= 0
+                || request.getTenureYears() > CalculatorLimits.MAX_TENURE_YEARS) return false;
+        return request.getLimit() == null || (request.getLimit() > 0 && request.getLimit() <= MAX_LIMIT);
+    }
+
+    public AprComparisonResponse compare(AprComparisonRequest request) {
+        LoanCatalogSnapshot catalog = loanCatalogService.current();
+        double principal = request.getLoanAmount().doubleValue();
+        int months = request.getTenureYears() * 12;
+        int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_LIMIT;
+        String type = request.getProductType();
+
+        // Best `limit` rows so far, kept sorted by APR (insertion into small parallel arrays)
+        int[] bestRows = new int[limit];
+        double[] bestMonthlyIrr = new double[limit];
+        double[] bestEmi = new double[limit];
+        double[] bestFee = new double[limit];
+        int kept = 0;
+        int compared = 0;
+        int notComparable = 0;
+
+        for (int row = 0; row < catalog.size; row++) {
+            // 1. Nothing further down can beat the worst one kept
+            if (kept == limit && catalog.annualRates[row] / 1200 >= bestMonthlyIrr[kept - 1]) break;
+
+            // 2. The product must be able to offer this amount and tenure
+            if (months > catalog.tenureMonths[row] || principal > catalog.maxAmounts[row]) continue;
+            if (type != null && !type.equalsIgnoreCase(catalog.types[row])) continue;
+
+            // 3. IRR of (amount - fee) against the EMI; a fee that eats the whole amount has none
+            double rate = catalog.annualRates[row] / 1200;
+            double emi = principal * LoanCatalogSnapshot.annuityFactor(catalog.annualRates[row], months);
+            double fee = catalog.processingFee(row, principal);
+            if (fee >= principal) {
+                notComparable++;
+                continue;
+            }
+            double guess = rate + 2 * fee / (principal * (months + 1));
+            double irr = fee > 0 ? FinancialUtils.solveMonthlyIrr(principal - fee, emi, months, guess) : rate;
+            if (Double.isNaN(irr)) {
+                notComparable++;
+                continue;
+            }
+            compared++;
+
+            // 4. Insert into the sorted top list
+            if (kept == limit && irr >= bestMonthlyIrr[kept - 1]) continue;
+            int at = kept == limit ? limit - 1 : kept++;
+            while (at > 0 && bestMonthlyIrr[at - 1] > irr) {
+                bestRows[at] = bestRows[at - 1];
+                bestMonthlyIrr[at] = bestMonthlyIrr[at - 1];
+                bestEmi[at] = bestEmi[at - 1];
+                bestFee[at] = bestFee[at - 1];
+                at--;
+            }
+            bestRows[at] = row;
+            bestMonthlyIrr[at] = irr;
+            bestEmi[at] = emi;
+            bestFee[at] = fee;
+        }
+
+        List<ProductAprDto> products = new ArrayList<>(kept);
+        for (int k = 0; k < kept; k++) {
+            int row = bestRows[k];
+            double irr = bestMonthlyIrr[k];
+            products.add(new ProductAprDto(
+                    catalog.productIds[row],
+                    catalog.bankNames[row],
+                    catalog.types[row],
+                    catalog.annualRates[row],
+                    Math.round(bestFee[k]),
+                    Math.round(bestEmi[k]),
+                    round2(irr * 1200),
+                    round2(Math.expm1(12 * Math.log1p(irr)) * 100),
+                    Math.round(bestEmi[k] * months - principal + bestFee[k])
+            ));
+        }
+
+        return new AprComparisonResponse(Math.round(principal), months, compared, notComparable, products);
+    }
+
+    private static double round2(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,206 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.config.ComputeConfig;
+import com.pryme.loan.dto.BalanceTransferOfferDto;
+import com.pryme.loan.dto.BalanceTransferRequest;
+import com.pryme.loan.dto.BalanceTransferResponse;
+import com.pryme.loan.entity.ExternalLoan;
+import com.pryme.loan.utils.FinancialUtils;
+import com.pryme.loan.utils.TopKHeap;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Would moving an external loan to one of our products save money once the fee is paid?
+ *
+ * Every (external loan, catalog product of the same type) pair is priced over the loan's remaining
+ * tenure: new EMI, new interest, fee, net saving and the month the EMI difference repays the fee.
+ * Pairs are split across the calculator pool; each leaf keeps its own bounded top-K heap by net
+ * saving and the heaps are merged on the way up, so nothing is sorted in full.
+ */
+@Service
+public class BalanceTransferService {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 100;
+    private static final int LEAF_PAIRS = 2_048;
+
+    private final LoanCatalogService loanCatalogService;
+    private final ForkJoinPool pool;
+
+    public BalanceTransferService(LoanCatalogService loanCatalogService,
+                                  @Qualifier(ComputeConfig.CALCULATOR_POOL) ForkJoinPool pool) {
+        this.loanCatalogService = loanCatalogService;
+        this.pool = pool;
+    }
+
+    public boolean isValid(List<ExternalLoan> loans, BalanceTransferRequest request) {
+        if (loans.isEmpty()) return false;
+        if (request.getLimit() != null && (request.getLimit() <= 0 || request.getLimit() > MAX_LIMIT)) return false;
+        for (ExternalLoan loan : loans) {
+            BigDecimal rate = DebtPayoffService.rateOf(loan, request.getInterestRates());
+            if (rate == null || rate.signum() < 0) return false;
+            if (loan.getOutstandingAmount() == null || loan.getEmiAmount() == null || loan.getEmiAmount().signum() <= 0) return false;
+        }
+        return true;
+    }
+
+    public BalanceTransferResponse compare(List<ExternalLoan> loans, BalanceTransferRequest request) {
+        LoanCatalogSnapshot catalog = loanCatalogService.current();
+        CurrentLoans current = CurrentLoans.of(loans, request);
+        int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_LIMIT;
+        double income = request.getMonthlyIncome() != null ? request.getMonthlyIncome().doubleValue() : Double.POSITIVE_INFINITY;
+        int cibil = request.getCibilScore() != null ? request.getCibilScore() : Integer.MAX_VALUE;
+
+        // 1. Price every pair in parallel, pair id = loan * catalog size + row
+        PairTask root = new PairTask(catalog, current, income, cibil, limit, 0, (long) current.size * catalog.size);
+        LeafResult result = catalog.size == 0 ? new LeafResult(new TopKHeap(limit), 0) : pool.invoke(root);
+
+        // 2. Re-price only the winners for the response
+        List<BalanceTransferOfferDto> offers = new ArrayList<>();
+        for (long pair : result.top.drainDescending()) {
+            offers.add(describe(catalog, current, loans, (int) (pair / catalog.size), (int) (pair % catalog.size)));
+        }
+        return new BalanceTransferResponse(result.evaluated, offers);
+    }
+
+    private static BalanceTransferOfferDto describe(LoanCatalogSnapshot catalog, CurrentLoans current,
+                                                    List<ExternalLoan> loans, int loan, int row) {
+        ExternalLoan external = loans.get(loan);
+        int months = current.remainingMonths[loan];
+        double principal = current.balances[loan];
+        double newEmi = principal * LoanCatalogSnapshot.annuityFactor(catalog.annualRates[row], months);
+        double newInterest = newEmi * months - principal;
+        double fee = catalog.processingFee(row, principal);
+        double monthlySaving = current.emis[loan] - newEmi;
+
+        return new BalanceTransferOfferDto(
+                external.getId(),
+                external.getBankName(),
+                external.getLoanType(),
+                current.annualRates[loan],
+                months,
+                Math.round(current.emis[loan]),
+                Math.round(current.interest[loan]),
+                catalog.productIds[row],
+                catalog.bankNames[row],
+                catalog.annualRates[row],
+                Math.round(newEmi),
+                Math.round(newInterest),
+                Math.round(fee),
+                Math.round(current.interest[loan] - newInterest - fee),
+                fee <= 0 ? 0 : (int) Math.ceil(fee / monthlySaving)
+        );
+    }
+
+    /**
+     * The user's loans as parallel arrays, with what is left to pay on each at its current EMI.
+     */
+    static final class CurrentLoans {
+        final int size;
+        final String[] types;
+        final double[] balances;
+        final double[] annualRates;
+        final double[] emis;
+        final int[] remainingMonths; // 0 if the EMI never clears the loan
+        final double[] interest;
+
+        private CurrentLoans(int size) {
+            this.size = size;
+            this.types = new String[size];
+            this.balances = new double[size];
+            this.annualRates = new double[size];
+            this.emis = new double[size];
+            this.remainingMonths = new int[size];
+            this.interest = new double[size];
+        }
+
+        static CurrentLoans of(List<ExternalLoan> loans, BalanceTransferRequest request) {
+            CurrentLoans current = new CurrentLoans(loans.size());
+            for (int i = 0; i < current.size; i++) {
+                ExternalLoan loan = loans.get(i);
+                BigDecimal rate = DebtPayoffService.rateOf(loan, request.getInterestRates());
+                current.types[i] = loan.getLoanType();
+                current.balances[i] = loan.getOutstandingAmount().doubleValue();
+                current.annualRates[i] = rate.doubleValue();
+                current.emis[i] = loan.getEmiAmount().doubleValue();
+
+                int months = FinancialUtils.calculateTenureMonths(loan.getOutstandingAmount(), rate, loan.getEmiAmount(),
+                        LoanSolverService.MAX_TENURE_MONTHS);
+                current.remainingMonths[i] = Math.max(0, months);
+                current.interest[i] = months > 0 ? remainingInterest(current.balances[i], rate.doubleValue() / 1200, current.emis[i], months) : 0;
+            }
+            return current;
+        }
+
+        // Interest still to pay: full EMIs, plus a smaller final payment that clears what is left
+        private static double remainingInterest(double balance, double monthlyRate, double emi, int months) {
+            double growth = Math.pow(1 + monthlyRate, months - 1);
+            double beforeLast = monthlyRate == 0 ? balance - emi * (months - 1) : balance * growth - emi * (growth - 1) / monthlyRate;
+            return emi * (months - 1) + beforeLast * (1 + monthlyRate) - balance;
+        }
+    }
+
+    private record LeafResult(TopKHeap top, int evaluated) {}
+
+    private static class PairTask extends RecursiveTask<LeafResult> {
+        private final LoanCatalogSnapshot catalog;
+        private final CurrentLoans current;
+        private final double income;
+        private final int cibil;
+        private final int limit;
+        private final long from;
+        private final long to;
+
+        PairTask(LoanCatalogSnapshot catalog, CurrentLoans current, double income, int cibil, int limit, long from, long to) {
+            this.catalog = catalog;
+            this.current = current;
+            this.income = income;
+            this.cibil = cibil;
+            this.limit = limit;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected LeafResult compute() {
+            if (to - from > LEAF_PAIRS) {
+                long mid = (from + to) >>> 1;
+                PairTask right = new PairTask(catalog, current, income, cibil, limit, mid, to);
+                right.fork();
+                LeafResult left = new PairTask(catalog, current, income, cibil, limit, from, mid).compute();
+                LeafResult other = right.join();
+                return new LeafResult(left.top.merge(other.top), left.evaluated + other.evaluated);
+            }
+
+            TopKHeap top = new TopKHeap(limit);
+            int evaluated = 0;
+            for (long pair = from; pair < to; pair++) {
+                int loan = (int) (pair / catalog.size);
+                int row = (int) (pair % catalog.size);
+                int months = current.remainingMonths[loan];
+                double principal = current.balances[loan];
+
+                // Same loan type, and the product has to take the amount for the remaining tenure
+                if (months == 0 || principal <= 0) continue;
+                if (catalog.types[row] == null || !catalog.types[row].equalsIgnoreCase(current.types[loan])) continue;
+                if (principal > catalog.maxAmounts[row] || months > catalog.tenureMonths[row]) continue;
+                if (income < catalog.minSalaries[row] || cibil < catalog.minCibils[row]) continue;
+                evaluated++;
+
+                // Same tenure at a rate that is not lower can only cost more
+                if (catalog.annualRates[row] >= current.annualRates[loan]) continue;
+                double newEmi = principal * LoanCatalogSnapshot.annuityFactor(catalog.annualRates[row], months);
+                double saving = current.interest[loan] - (newEmi * months - principal) - catalog.processingFee(row, principal);
+                if (saving > 0) top.offer(saving, pair);
+            }
+            return new LeafResult(top, evaluated);
+        }
+    }
+}
@@ -1,33 +1,124 @@
 package com.pryme.loan.service;
 
+import com.pryme.loan.dto.RankedRecommendationResponse;
 import com.pryme.loan.dto.RecommendationRequest;
+import com.pryme.loan.dto.ScoredRecommendationDto;
 import com.pryme.loan.entity.LoanProduct;
-import com.pryme.loan.repository.LoanProductRepository;
+import com.pryme.loan.utils.FinancialUtils;
+import com.pryme.loan.utils.TopKHeap;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 public class BankRecommendationService {
 
-    private final LoanProductRepository loanProductRepository;
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
 
-    public BankRecommendationService(LoanProductRepository loanProductRepository) {
-        this.loanProductRepository = loanProductRepository;
+    private final LoanCatalogService loanCatalogService;
+    private final EligibilityBucketService eligibilityBucketService;
+
+    // Ranked score = - cost x (interest + fee) / amount - emi x EMI / income + headroom x capacity left / capacity
+    private final double costWeight;
+    private final double emiWeight;
+    private final double headroomWeight;
+
+    public BankRecommendationService(
+            LoanCatalogService loanCatalogService,
+            EligibilityBucketService eligibilityBucketService,
+            @Value("${pryme.recommendation.score.cost-weight:1.0}") double costWeight,
+            @Value("${pryme.recommendation.score.emi-weight:0.5}") double emiWeight,
+            @Value("${pryme.recommendation.score.headroom-weight:0.25}") double headroomWeight) {
+        this.loanCatalogService = loanCatalogService;
+        this.eligibilityBucketService = eligibilityBucketService;
+        this.costWeight = costWeight;
+        this.emiWeight = emiWeight;
+        this.headroomWeight = headroomWeight;
     }
 
     public List<LoanProduct> getEligibleLoans(RecommendationRequest request) {
-        // 1. Fetch all matching products from DB
-        List<LoanProduct> eligibleProducts = loanProductRepository.findByTypeAndMinSalaryLessThanEqualAndMinCibilLessThanEqual(
-                request.productType(),
-                request.monthlyIncome(),
-                request.cibilScore()
-        );
+        // Matching products from the precomputed (CIBIL band, income band) cell, already sorted by
+        // numeric Interest Rate (Lowest to Highest)
+        double income = request.monthlyIncome() != null ? request.monthlyIncome().doubleValue() : 0;
+        return eligibilityBucketService.eligible(request.productType(), income, request.cibilScore());
+    }
+
+    public boolean isValidForRanking(RecommendationRequest request) {
+        if (request.monthlyIncome() == null || request.monthlyIncome().signum() <= 0) return false;
+        if (request.requestedAmount() == null || request.requestedAmount().signum() <= 0) return false;
+        if (request.existingEmis() != null && request.existingEmis().signum() < 0) return false;
+        return request.limit() == null || (request.limit() > 0 && request.limit() <= MAX_LIMIT);
+    }
 
-        // 2. Sort them by Interest Rate (Lowest to Highest) for the best recommendation
-        eligibleProducts.sort(Comparator.comparing(LoanProduct::getInterestRate));
+    /**
+     * Scores every eligible product for the requested amount (EMI, FOIR headroom, fee, total
+     * interest) in one pass over the catalog snapshot's columns and keeps the best {@code limit}
+     * in a bounded heap, so only the winners are ever sorted or turned into DTOs.
+     */
+    public RankedRecommendationResponse rankLoans(RecommendationRequest request) {
+        LoanCatalogSnapshot catalog = loanCatalogService.current();
+        double income = request.monthlyIncome().doubleValue();
+        double principal = request.requestedAmount().doubleValue();
+        double existingEmis = request.existingEmis() != null ? request.existingEmis().doubleValue() : 0;
+        int cibil = request.cibilScore();
+        String type = request.productType();
+        int limit = request.limit() != null ? request.limit() : DEFAULT_LIMIT;
+
+        // 1. EMI capacity
+        double capacity = income * FinancialUtils.maxFoir(request.occupation()) - existingEmis;
+        if (capacity <= 0) {
+            return new RankedRecommendationResponse(0, 0, 0, List.of());
+        }
+
+        // 2. Score each eligible, affordable product
+        TopKHeap best = new TopKHeap(limit);
+        int eligible = 0;
+        int unaffordable = 0;
+        for (int i = 0; i < catalog.size; i++) {
+            if (income < catalog.minSalaries[i] || cibil < catalog.minCibils[i] || principal > catalog.maxAmounts[i]) continue;
+            if (type != null && !type.equalsIgnoreCase(catalog.types[i])) continue;
+            eligible++;
+
+            double emi = principal * catalog.annuityFactors[i];
+            double headroom = capacity - emi;
+            if (headroom < 0) {
+                unaffordable++;
+                continue;
+            }
+            double totalInterest = emi * catalog.tenureMonths[i] - principal;
+            double cost = totalInterest + catalog.processingFee(i, principal);
+            best.offer(score(cost / principal, emi / income, headroom / capacity), i);
+        }
+
+        // 3. Winners only: recompute the figures for the response
+        List<ScoredRecommendationDto> ranked = new ArrayList<>(best.size());
+        for (long row : best.drainDescending()) {
+            int i = (int) row;
+            double emi = principal * catalog.annuityFactors[i];
+            double headroom = capacity - emi;
+            double totalInterest = emi * catalog.tenureMonths[i] - principal;
+            double fee = catalog.processingFee(i, principal);
+            ranked.add(new ScoredRecommendationDto(
+                    catalog.productIds[i],
+                    catalog.bankNames[i],
+                    catalog.types[i],
+                    catalog.annualRates[i],
+                    catalog.tenureMonths[i],
+                    Math.round(emi),
+                    Math.round(headroom),
+                    Math.round(fee),
+                    Math.round(totalInterest),
+                    Math.round(totalInterest + fee),
+                    score((totalInterest + fee) / principal, emi / income, headroom / capacity)
+            ));
+        }
+        return new RankedRecommendationResponse(Math.round(capacity), eligible, unaffordable, ranked);
+    }
 
-        return eligibleProducts;
+    private double score(double costRatio, double emiRatio, double headroomRatio) {
+        return -costWeight * costRatio - emiWeight * emiRatio + headroomWeight * headroomRatio;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,146 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.config.ComputeConfig;
+import com.pryme.loan.dto.BatchCalculationRequest;
+import com.pryme.loan.dto.BatchCalculationResponse;
+import com.pryme.loan.dto.EmiRequest;
+import com.pryme.loan.dto.EmiResponse;
+import com.pryme.loan.dto.PrePaymentRequest;
+import com.pryme.loan.dto.PrePaymentResponse;
+import com.pryme.loan.dto.PrincipalSolveRequest;
+import com.pryme.loan.dto.PrincipalSolveResponse;
+import com.pryme.loan.dto.TenureSolveRequest;
+import com.pryme.loan.dto.TenureSolveResponse;
+import com.pryme.loan.utils.FinancialUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates many calculator scenarios in one call on the bounded calculator ForkJoinPool
+ * (see ComputeConfig). Result order = request order.
+ */
+@Service
+public class BatchCalculatorService {
+
+    // Below this many scenarios a task stops splitting and runs sequentially
+    private static final int SEQUENTIAL_THRESHOLD = 8;
+
+    private final LoanSimulationService loanSimulationService;
+    private final LoanSolverService loanSolverService;
+    private final ForkJoinPool pool;
+    private final int maxScenarios;
+
+    public BatchCalculatorService(
+            LoanSimulationService loanSimulationService,
+            LoanSolverService loanSolverService,
+            @Qualifier(ComputeConfig.CALCULATOR_POOL) ForkJoinPool pool,
+            @Value("${pryme.calculator.batch.max-scenarios:500}") int maxScenarios) {
+        this.loanSimulationService = loanSimulationService;
+        this.loanSolverService = loanSolverService;
+        this.pool = pool;
+        this.maxScenarios = maxScenarios;
+    }
+
+    // Every scenario is checked up front: one bad row would otherwise fail the whole fork-join task
+    public boolean isValid(BatchCalculationRequest request) {
+        if (request == null) return false;
+        if (size(request.getEmi()) + size(request.getPrepayment())
+                + size(request.getTenure()) + size(request.getPrincipal()) > maxScenarios) return false;
+
+        return allValid(request.getEmi(), BatchCalculatorService::isValid)
+                && allValid(request.getPrepayment(), CalculatorLimits::isValid)
+                && allValid(request.getTenure(), loanSolverService::isValid)
+                && allValid(request.getPrincipal(), loanSolverService::isValid);
+    }
+
+    static boolean isValid(EmiRequest request) {
+        return request.getPrincipal() > 0 && request.getPrincipal() <= CalculatorLimits.MAX_AMOUNT.doubleValue()
+                && request.getAnnualRate() >= 0 && request.getAnnualRate() <= CalculatorLimits.MAX_PERCENT.doubleValue()
+                && request.getTenureYears() > 0 && request.getTenureYears() <= CalculatorLimits.MAX_TENURE_YEARS;
+    }
+
+    public BatchCalculationResponse calculate(BatchCalculationRequest request) {
+        List<EmiResponse> emi = evaluate(request.getEmi(), this::calculateEmi, EmiResponse[]::new);
+        List<PrePaymentResponse> prepayment = evaluate(request.getPrepayment(),
+                loanSimulationService::calculatePrePaymentSavings, PrePaymentResponse[]::new);
+        List<TenureSolveResponse> tenure = evaluate(request.getTenure(),
+                loanSolverService::solveTenure, TenureSolveResponse[]::new);
+        List<PrincipalSolveResponse> principal = evaluate(request.getPrincipal(),
+                loanSolverService::solvePrincipal, PrincipalSolveResponse[]::new);
+        return new BatchCalculationResponse(emi, prepayment, tenure, principal);
+    }
+
+    public EmiResponse calculateEmi(EmiRequest request) {
+        int months = request.getTenureYears() * 12;
+        BigDecimal principal = BigDecimal.valueOf(request.getPrincipal());
+        BigDecimal emi = FinancialUtils.roundCurrency(
+                FinancialUtils.calculateEmi(principal, BigDecimal.valueOf(request.getAnnualRate()), months));
+        BigDecimal totalPayment = emi.multiply(BigDecimal.valueOf(months));
+
+        return new EmiResponse(
+                emi.doubleValue(),
+                FinancialUtils.roundCurrency(totalPayment.subtract(principal)).doubleValue(),
+                FinancialUtils.roundCurrency(totalPayment).doubleValue()
+        );
+    }
+
+    private <T, R> List<R> evaluate(List<T> scenarios, Function<T, R> calculator, IntFunction<R[]> arrayFactory) {
+        if (scenarios == null || scenarios.isEmpty()) return List.of();
+
+        // Each task writes into its own slots, so the output keeps request order without sorting
+        R[] results = arrayFactory.apply(scenarios.size());
+        pool.invoke(new EvaluateTask<>(scenarios, results, calculator, 0, scenarios.size()));
+        return Arrays.asList(results);
+    }
+
+    private static <T> boolean allValid(List<T> scenarios, Predicate<T> check) {
+        if (scenarios == null) return true;
+        for (T scenario : scenarios) {
+            if (scenario == null || !check.test(scenario)) return false;
+        }
+        return true;
+    }
+
+    private static int size(List<?> list) {
+        return list != null ? list.size() : 0;
+    }
+
+    private static class EvaluateTask<T, R> extends RecursiveAction {
+        private final List<T> scenarios;
+        private final R[] results;
+        private final Function<T, R> calculator;
+        private final int from;
+        private final int to;
+
+        EvaluateTask(List<T> scenarios, R[] results, Function<T, R> calculator, int from, int to) {
+            this.scenarios = scenarios;
+            this.results = results;
+            this.calculator = calculator;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    results[i] = calculator.apply(scenarios.get(i));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new EvaluateTask<>(scenarios, results, calculator, from, mid),
+                    new EvaluateTask<>(scenarios, results, calculator, mid, to));
+        }
+    }
+}
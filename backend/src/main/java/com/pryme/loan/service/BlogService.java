@@ -15,6 +15,7 @@ import java.util.List;
 public class BlogService {
 
     private final BlogPostRepository blogRepository;
+    private final JsonResponseCache jsonResponseCache;
 
     public List<BlogPost> getAllPosts() {
         // Return Pinned posts first, then by date
@@ -36,7 +37,9 @@ public class BlogService {
         post.setImageUrl(request.getImageUrl());
         post.setExcerpt(request.getExcerpt());
         post.setSlug(generateUniqueSlug(request.getTitle()));
-        return blogRepository.save(post);
+        BlogPost saved = blogRepository.save(post);
+        jsonResponseCache.invalidate(JsonResponseCache.BLOGS);
+        return saved;
     }
 
     // Logic: "Loan Tips" -> "loan-tips". If exists -> "loan-tips-1"
@@ -57,6 +60,7 @@ public class BlogService {
 
     public void deletePost(Long id) {
         blogRepository.deleteById(id);
+        jsonResponseCache.invalidate(JsonResponseCache.BLOGS);
     }
 
     public BlogPost updatePost(Long id, BlogPostRequest request) {
@@ -75,6 +79,8 @@ public class BlogService {
         // Note: We deliberately do NOT update the 'slug' here to prevent
         // breaking SEO links (404 errors) if the title changes.
 
-        return blogRepository.save(post);
+        BlogPost saved = blogRepository.save(post);
+        jsonResponseCache.invalidate(JsonResponseCache.BLOGS);
+        return saved;
     }
 }
\ No newline at end of file
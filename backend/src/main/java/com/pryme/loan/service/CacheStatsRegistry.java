@@ -0,0 +1,37 @@
+package com.pryme.loan.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.pryme.loan.dto.CacheStatsDto;
+import com.pryme.loan.utils.AnnuityFactorCache;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Collects hit/miss/eviction counters of the in-memory caches for the admin stats endpoint.
+ * Services register their Caffeine caches (built with recordStats()) at construction time.
+ */
+@Service
+public class CacheStatsRegistry {
+
+    private final Map<String, Cache<?, ?>> caches = new ConcurrentSkipListMap<>();
+
+    public void register(String name, Cache<?, ?> cache) {
+        caches.put(name, cache);
+    }
+
+    public List<CacheStatsDto> snapshot() {
+        List<CacheStatsDto> result = new ArrayList<>();
+        result.add(toDto("annuityFactor", AnnuityFactorCache.size(), AnnuityFactorCache.stats()));
+        caches.forEach((name, cache) -> result.add(toDto(name, cache.estimatedSize(), cache.stats())));
+        return result;
+    }
+
+    private static CacheStatsDto toDto(String name, long size, CacheStats stats) {
+        return new CacheStatsDto(name, size, stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount());
+    }
+}
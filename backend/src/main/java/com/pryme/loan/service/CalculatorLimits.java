@@ -0,0 +1,28 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.dto.PrePaymentRequest;
+
+import java.math.BigDecimal;
+
+/**
+ * Input bounds shared by the calculator endpoints, so a single request cannot overflow the
+ * month/unit arithmetic or keep the calculator pool busy for minutes.
+ */
+public final class CalculatorLimits {
+
+    public static final int MAX_TENURE_MONTHS = 40 * 12;
+    public static final int MAX_TENURE_YEARS = MAX_TENURE_MONTHS / 12;
+    public static final BigDecimal MAX_AMOUNT = new BigDecimal("1000000000000"); // Rs 1 lakh crore, so units fit a long
+    public static final BigDecimal MAX_PERCENT = BigDecimal.valueOf(100);
+
+    private CalculatorLimits() {}
+
+    // Amount > 0, rate 0..100 % (0% loans are fine), tenure 1..40 years
+    public static boolean isValid(PrePaymentRequest request) {
+        return request != null && request.getLoanAmount() != null && request.getInterestRate() != null
+                && request.getTenureYears() != null
+                && request.getTenureYears() > 0 && request.getTenureYears() <= MAX_TENURE_YEARS
+                && request.getLoanAmount().signum() > 0 && request.getLoanAmount().compareTo(MAX_AMOUNT) <= 0
+                && request.getInterestRate().signum() >= 0 && request.getInterestRate().compareTo(MAX_PERCENT) <= 0;
+    }
+}
@@ -0,0 +1,215 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.dto.ConsolidationDto;
+import com.pryme.loan.dto.DebtPayoffRequest;
+import com.pryme.loan.dto.DebtPayoffResponse;
+import com.pryme.loan.dto.LoanPayoffDto;
+import com.pryme.loan.dto.PayoffPlanDto;
+import com.pryme.loan.entity.ExternalLoan;
+import com.pryme.loan.utils.FinancialUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Plans how to clear all of a user's external loans with the same monthly outflow plus an extra budget.
+ *
+ *  - minimum:       every loan pays only its own EMI (the baseline)
+ *  - avalanche:     EMIs + extra every month; whatever is left after the EMIs goes to the highest rate first
+ *  - snowball:      same budget, surplus goes to the smallest starting balance first
+ *  - consolidation: one catalog loan for the total, EMI = the whole budget
+ *
+ * All loans advance together month by month on parallel primitive arrays. A closed loan's EMI
+ * stays in the budget, so it rolls over to the next target automatically.
+ */
+@Service
+@RequiredArgsConstructor
+public class DebtPayoffService {
+
+    static final int MAX_MONTHS = 50 * 12;
+    private static final double SETTLEMENT_TOLERANCE = FinancialUtils.SETTLEMENT_TOLERANCE.doubleValue();
+
+    private final LoanCatalogService loanCatalogService;
+
+    public boolean isValid(List<ExternalLoan> loans, DebtPayoffRequest request) {
+        if (loans.isEmpty()) return false;
+        if (request.getExtraMonthlyBudget() != null && request.getExtraMonthlyBudget().signum() < 0) return false;
+        for (ExternalLoan loan : loans) {
+            BigDecimal rate = rateOf(loan, request.getInterestRates());
+            if (rate == null || rate.signum() < 0) return false;
+            if (loan.getOutstandingAmount() == null || loan.getOutstandingAmount().signum() < 0) return false;
+            if (loan.getEmiAmount() == null || loan.getEmiAmount().signum() <= 0) return false;
+        }
+        return true;
+    }
+
+    public DebtPayoffResponse plan(List<ExternalLoan> loans, DebtPayoffRequest request) {
+        // 1. Loans into parallel arrays
+        int n = loans.size();
+        double[] balances = new double[n];
+        double[] monthlyRates = new double[n];
+        double[] emis = new double[n];
+        double totalOutstanding = 0;
+        double totalEmi = 0;
+        for (int i = 0; i < n; i++) {
+            ExternalLoan loan = loans.get(i);
+            balances[i] = loan.getOutstandingAmount().doubleValue();
+            monthlyRates[i] = rateOf(loan, request.getInterestRates()).doubleValue() / 1200;
+            emis[i] = loan.getEmiAmount().doubleValue();
+            totalOutstanding += balances[i];
+            totalEmi += emis[i];
+        }
+        double extra = request.getExtraMonthlyBudget() != null ? request.getExtraMonthlyBudget().doubleValue() : 0;
+        double budget = totalEmi + extra;
+
+        // 2. Baseline and the two ordering strategies
+        Result minimum = simulate(balances, monthlyRates, emis, budget, null);
+        int[] avalancheOrder = order(n, i -> -monthlyRates[i]);
+        int[] snowballOrder = order(n, i -> balances[i]);
+
+        PayoffPlanDto baseline = toPlan("minimum", minimum, minimum, loans, 0, null);
+        List<PayoffPlanDto> strategies = new ArrayList<>();
+        strategies.add(toPlan("avalanche", simulate(balances, monthlyRates, emis, budget, avalancheOrder), minimum, loans, 0, null));
+        strategies.add(toPlan("snowball", simulate(balances, monthlyRates, emis, budget, snowballOrder), minimum, loans, 0, null));
+
+        // 3. Consolidation into one catalog product, if any can take the whole debt on this budget
+        PayoffPlanDto consolidation = consolidate(request, totalOutstanding, budget, minimum);
+        if (consolidation != null) strategies.add(consolidation);
+
+        return new DebtPayoffResponse(Math.round(totalOutstanding), Math.round(budget), baseline, strategies);
+    }
+
+    private PayoffPlanDto consolidate(DebtPayoffRequest request, double total, double budget, Result minimum) {
+        if (total <= 0) return null;
+        LoanCatalogSnapshot catalog = loanCatalogService.current();
+        BigDecimal principal = BigDecimal.valueOf(total);
+        BigDecimal emi = BigDecimal.valueOf(budget);
+        String type = request.getConsolidationLoanType();
+
+        // Rows are in rate order, so the first product that fits is the cheapest
+        for (int row = 0; row < catalog.size; row++) {
+            if (request.getConsolidationProductId() != null && catalog.productIds[row] != request.getConsolidationProductId()) continue;
+            if (type != null && !type.equalsIgnoreCase(catalog.types[row])) continue;
+            if (total > catalog.maxAmounts[row]) continue;
+
+            int months = FinancialUtils.calculateTenureMonths(principal, BigDecimal.valueOf(catalog.annualRates[row]), emi,
+                    catalog.tenureMonths[row]);
+            if (months < 0) continue;
+
+            double rowEmi = total * LoanCatalogSnapshot.annuityFactor(catalog.annualRates[row], months);
+            Result result = simulate(new double[]{total}, new double[]{catalog.annualRates[row] / 1200},
+                    new double[]{rowEmi}, rowEmi, null);
+            double fee = catalog.processingFee(row, total);
+
+            ConsolidationDto details = new ConsolidationDto(catalog.productIds[row], catalog.bankNames[row],
+                    catalog.annualRates[row], Math.round(fee), Math.round(rowEmi), months);
+            return toPlan("consolidation", result, minimum, List.of(), fee, details);
+        }
+        return null;
+    }
+
+    /**
+     * Advances every loan one month at a time: interest, each loan's own EMI, then (if an order is
+     * given) the rest of the budget down the order. Without an order, loans just run their EMIs.
+     */
+    static Result simulate(double[] startBalances, double[] monthlyRates, double[] emis, double budget, int[] order) {
+        int n = startBalances.length;
+        double[] balances = startBalances.clone();
+        int[] payoffMonths = new int[n];
+        long[] yearlyBalance = new long[MAX_MONTHS / 12];
+        double totalInterest = 0;
+
+        int open = 0;
+        for (double balance : balances) {
+            if (balance > 0) open++;
+        }
+
+        int month = 0;
+        while (open > 0 && month < MAX_MONTHS) {
+            month++;
+            double available = budget;
+
+            // 1. Interest and the regular EMI on every open loan
+            for (int i = 0; i < n; i++) {
+                if (balances[i] <= 0) continue;
+                double interest = balances[i] * monthlyRates[i];
+                totalInterest += interest;
+                double payment = Math.min(emis[i], balances[i] + interest);
+                balances[i] += interest - payment;
+                available -= payment;
+            }
+
+            // 2. Surplus (extra + EMIs of closed loans) down the priority order
+            if (order != null) {
+                for (int k = 0; k < n && available > 0; k++) {
+                    int i = order[k];
+                    if (balances[i] <= 0) continue;
+                    double payment = Math.min(available, balances[i]);
+                    balances[i] -= payment;
+                    available -= payment;
+                }
+            }
+
+            // 3. Close anything down to rounding dust
+            for (int i = 0; i < n; i++) {
+                if (payoffMonths[i] == 0 && startBalances[i] > 0 && balances[i] < SETTLEMENT_TOLERANCE) {
+                    balances[i] = 0;
+                    payoffMonths[i] = month;
+                    open--;
+                }
+            }
+
+            if (month % 12 == 0 || open == 0) {
+                double total = 0;
+                for (double balance : balances) total += balance;
+                yearlyBalance[(month - 1) / 12] = Math.round(total);
+            }
+        }
+
+        return new Result(open == 0, month, totalInterest, payoffMonths, Arrays.copyOf(yearlyBalance, (month + 11) / 12));
+    }
+
+    record Result(boolean paidOff, int months, double totalInterest, int[] payoffMonths, long[] yearlyBalance) {}
+
+    private static PayoffPlanDto toPlan(String strategy, Result result, Result minimum, List<ExternalLoan> loans,
+                                        double fee, ConsolidationDto consolidation) {
+        List<LoanPayoffDto> payoffs = new ArrayList<>(loans.size());
+        for (int i = 0; i < loans.size(); i++) {
+            ExternalLoan loan = loans.get(i);
+            payoffs.add(new LoanPayoffDto(loan.getId(), loan.getBankName(), loan.getLoanType(), result.payoffMonths()[i]));
+        }
+        double cost = result.totalInterest() + fee;
+        return new PayoffPlanDto(
+                strategy,
+                result.paidOff(),
+                result.months(),
+                Math.round(cost),
+                Math.round(minimum.totalInterest() - cost),
+                minimum.months() - result.months(),
+                payoffs,
+                result.yearlyBalance(),
+                consolidation
+        );
+    }
+
+    // Loan indexes sorted by key (ascending)
+    private static int[] order(int n, IntToDoubleFunction key) {
+        return IntStream.range(0, n).boxed()
+                .sorted((a, b) -> Double.compare(key.applyAsDouble(a), key.applyAsDouble(b)))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    // Rate given in the request for this loan (external loans don't store one; may be null)
+    static BigDecimal rateOf(ExternalLoan loan, Map<UUID, BigDecimal> rates) {
+        return rates != null ? rates.get(loan.getId()) : null;
+    }
+}
@@ -0,0 +1,154 @@
+package com.pryme.loan.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pryme.loan.config.ComputeConfig;
+import com.pryme.loan.entity.LoanProduct;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Eligible-product lists materialized per (product type, CIBIL band, income band) cell.
+ * Recommendation traffic piles up in a few dozen cells, so a request becomes a cell lookup plus
+ * a filter over that cell's products instead of a catalog lookup.
+ *
+ * A cell holds every product someone at the top of both bands could get, in rate order; the
+ * per-request filter trims it to the applicant's exact income and score. Cells are built for
+ * every type once the app is up (after {@link LoanTermsBackfillJob}). An admin write drops only the cells the product (before and
+ * after the change) can appear in, and those are rebuilt in the background.
+ * Hit rate is reported as "eligibilityBuckets" on the admin cache stats (builds count as misses).
+ */
+@Service
+public class EligibilityBucketService {
+
+    // Lower bound of each band; the last band is open-ended
+    private static final int[] CIBIL_BANDS = {0, 550, 600, 650, 700, 750, 800};
+    private static final double[] INCOME_BANDS = {0, 15_000, 25_000, 35_000, 50_000, 75_000, 1_00_000, 1_50_000,
+            2_00_000, 3_00_000, 5_00_000};
+
+    private final LoanCatalogService loanCatalogService;
+    private final ForkJoinPool pool;
+    private final Cache<Cell, Bucket> buckets;
+
+    public EligibilityBucketService(
+            LoanCatalogService loanCatalogService,
+            CacheStatsRegistry cacheStatsRegistry,
+            @Qualifier(ComputeConfig.CALCULATOR_POOL) ForkJoinPool pool,
+            @Value("${pryme.recommendation.buckets.max-cells:5000}") long maxCells) {
+        this.loanCatalogService = loanCatalogService;
+        this.pool = pool;
+        this.buckets = Caffeine.newBuilder().maximumSize(maxCells).recordStats().build();
+        cacheStatsRegistry.register("eligibilityBuckets", buckets);
+    }
+
+    // Second on startup: the backfill (order 1) has to fill the numeric columns first
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)
+    public void materializeAll() {
+        for (String type : loanCatalogService.index().types()) {
+            for (int cibilBand = 0; cibilBand < CIBIL_BANDS.length; cibilBand++) {
+                for (int incomeBand = 0; incomeBand < INCOME_BANDS.length; incomeBand++) {
+                    Cell cell = new Cell(type, cibilBand, incomeBand);
+                    buckets.get(cell, this::build);
+                }
+            }
+        }
+    }
+
+    /**
+     * Products of {@code type} the applicant qualifies for, lowest rate first.
+     */
+    public List<LoanProduct> eligible(String type, double monthlyIncome, int cibilScore) {
+        // Unknown types get no cell, so made-up types cannot push the real cells out
+        if (type == null || !loanCatalogService.index().types().contains(type)) return new ArrayList<>();
+        Cell cell = new Cell(type, band(CIBIL_BANDS, cibilScore), band(INCOME_BANDS, monthlyIncome));
+        Bucket bucket = buckets.get(cell, this::build);
+
+        // Cheap final filter down to this applicant
+        List<LoanProduct> result = new ArrayList<>(bucket.products.length);
+        for (int i = 0; i < bucket.products.length; i++) {
+            if (bucket.minSalaries[i] <= monthlyIncome && bucket.minCibils[i] <= cibilScore) {
+                result.add(bucket.products[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Drops the cells a product with these terms can appear in (call with the state before and
+     * after a change). Inside a transaction this waits for the commit, like
+     * {@link LoanCatalogService#invalidate()}, and must be called after it so the rebuilt cells
+     * read the new catalog.
+     */
+    public void invalidate(String type, Integer minCibil, BigDecimal minSalary) {
+        if (type == null) return;
+        int cibil = minCibil != null ? minCibil : 0;
+        double salary = minSalary != null ? minSalary.doubleValue() : 0;
+        AfterCommit.run(() -> evict(type, cibil, salary));
+    }
+
+    /**
+     * Drops every cell, e.g. after the catalog was rewritten in bulk (no rebuild: callers follow
+     * with {@link #materializeAll()} or let requests rebuild them).
+     */
+    public void invalidateAll() {
+        AfterCommit.run(buckets::invalidateAll);
+    }
+
+    private void evict(String type, int minCibil, double minSalary) {
+        // 1. Cells whose top corner clears the product's minimums (it may be in them)
+        List<Cell> affected = new ArrayList<>();
+        for (int cibilBand = band(CIBIL_BANDS, minCibil); cibilBand < CIBIL_BANDS.length; cibilBand++) {
+            for (int incomeBand = band(INCOME_BANDS, minSalary); incomeBand < INCOME_BANDS.length; incomeBand++) {
+                affected.add(new Cell(type, cibilBand, incomeBand));
+            }
+        }
+        buckets.invalidateAll(affected);
+
+        // 2. Rebuild them off the admin request
+        pool.execute(() -> affected.forEach(cell -> buckets.get(cell, this::build)));
+    }
+
+    private Bucket build(Cell cell) {
+        // Everyone in the cell is at or below its top corner, so this is a superset of each request's answer
+        int cibilTop = cell.cibilBand + 1 < CIBIL_BANDS.length ? CIBIL_BANDS[cell.cibilBand + 1] - 1 : Integer.MAX_VALUE;
+        double incomeTop = cell.incomeBand + 1 < INCOME_BANDS.length ? INCOME_BANDS[cell.incomeBand + 1] : Double.MAX_VALUE;
+        List<LoanProduct> products = loanCatalogService.index().eligible(cell.type, incomeTop, cibilTop);
+
+        LoanProduct[] byRate = products.toArray(new LoanProduct[0]);
+        double[] minSalaries = new double[byRate.length];
+        int[] minCibils = new int[byRate.length];
+        for (int i = 0; i < byRate.length; i++) {
+            minSalaries[i] = byRate[i].getMinSalary() != null ? byRate[i].getMinSalary().doubleValue() : 0;
+            minCibils[i] = byRate[i].getMinCibil() != null ? byRate[i].getMinCibil() : 0;
+        }
+        return new Bucket(byRate, minSalaries, minCibils);
+    }
+
+    // Band whose lower bound is the last one <= value (values below the first band fall in it)
+    private static int band(int[] lowerBounds, int value) {
+        int band = 0;
+        while (band + 1 < lowerBounds.length && lowerBounds[band + 1] <= value) band++;
+        return band;
+    }
+
+    private static int band(double[] lowerBounds, double value) {
+        int band = 0;
+        while (band + 1 < lowerBounds.length && lowerBounds[band + 1] <= value) band++;
+        return band;
+    }
+
+    private record Cell(String type, int cibilBand, int incomeBand) {}
+
+    // Parallel arrays in rate order; the minimums are unboxed once for the per-request filter
+    private record Bucket(LoanProduct[] products, double[] minSalaries, int[] minCibils) {}
+}
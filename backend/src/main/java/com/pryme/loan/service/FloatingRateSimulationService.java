@@ -0,0 +1,320 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.config.ComputeConfig;
+import com.pryme.loan.dto.FloatingRateSimulationRequest;
+import com.pryme.loan.dto.FloatingRateSimulationResponse;
+import com.pryme.loan.dto.PercentileBandDto;
+import com.pryme.loan.utils.FinancialUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Monte Carlo version of the pre-payment calculator for floating-rate loans.
+ *
+ * The annual rate follows a mean-reverting (Vasicek) model, stepped once per reset period:
+ *   r' = r + kappa * (theta - r) * dt + sigma * sqrt(dt) * Z,   floored at rateFloor
+ * At each reset the EMI never goes down; it is raised only if the new rate needs more to finish
+ * within the original tenure (so falling rates shorten the loan, rising rates raise the EMI).
+ * Both the regular and the optimized (13th EMI / step-up) loan run on the same rate path.
+ * Whatever is still owed after the last EMI is settled as a final payment and reported per path.
+ *
+ * Paths are split across the calculator ForkJoinPool. Every leaf owns a SplittableRandom split
+ * off in a fixed task tree, so a given seed gives the same answer whatever the thread count.
+ * Paths still unstarted when the time budget runs out are dropped (the first MIN_PATHS always
+ * run) and the response is flagged as truncated.
+ */
+@Service
+public class FloatingRateSimulationService {
+
+    private static final int DEFAULT_PATHS = 1000;
+    private static final BigDecimal DEFAULT_MEAN_REVERSION = new BigDecimal("0.3");
+    private static final BigDecimal DEFAULT_VOLATILITY = BigDecimal.ONE;
+    private static final int DEFAULT_RESET_MONTHS = 3;
+    private static final int LEAF_PATHS = 256;
+    private static final int MIN_PATHS = 100; // Always simulated, whatever the budget
+    private static final BigDecimal MAX_MEAN_REVERSION = BigDecimal.valueOf(5); // Per year; beyond this it just overshoots
+    private static final BigDecimal MAX_VOLATILITY = BigDecimal.valueOf(20);    // % points a year
+
+    private static final double STEP_UP_FACTOR = 1.05; // Same 5% as the fixed-rate calculator
+    private static final double SETTLEMENT_TOLERANCE = FinancialUtils.SETTLEMENT_TOLERANCE.doubleValue();
+
+    private final ForkJoinPool pool;
+    private final int maxPaths;
+    private final long timeBudgetNanos;
+
+    public FloatingRateSimulationService(
+            @Qualifier(ComputeConfig.CALCULATOR_POOL) ForkJoinPool pool,
+            @Value("${pryme.calculator.monte-carlo.max-paths:10000}") int maxPaths,
+            @Value("${pryme.calculator.monte-carlo.time-budget-ms:2000}") long timeBudgetMs) {
+        this.pool = pool;
+        this.maxPaths = maxPaths;
+        this.timeBudgetNanos = timeBudgetMs * 1_000_000;
+    }
+
+    public boolean isValid(FloatingRateSimulationRequest request) {
+        if (request.getLoanAmount() == null || request.getInterestRate() == null || request.getTenureYears() == null
+                || request.getTenureYears() <= 0 || request.getTenureYears() > CalculatorLimits.MAX_TENURE_YEARS
+                || request.getLoanAmount().signum() <= 0 || request.getLoanAmount().compareTo(CalculatorLimits.MAX_AMOUNT) > 0
+                || !isWithin(request.getInterestRate(), CalculatorLimits.MAX_PERCENT)) {
+            return false;
+        }
+        if (request.getPaths() != null && (request.getPaths() <= 0 || request.getPaths() > maxPaths)) return false;
+        if (request.getResetMonths() != null && (request.getResetMonths() < 1 || request.getResetMonths() > 12)) return false;
+        return isWithin(request.getLongRunRate(), CalculatorLimits.MAX_PERCENT)
+                && isWithin(request.getRateFloor(), CalculatorLimits.MAX_PERCENT)
+                && isWithin(request.getMeanReversionSpeed(), MAX_MEAN_REVERSION)
+                && isWithin(request.getVolatility(), MAX_VOLATILITY);
+    }
+
+    public FloatingRateSimulationResponse simulate(FloatingRateSimulationRequest request) {
+        // 1. Resolve defaults and the model, all in doubles
+        int paths = request.getPaths() != null ? request.getPaths() : DEFAULT_PATHS;
+        long seed = request.getSeed() != null ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+        int maxMonths = request.getTenureYears() * 12;
+        BigDecimal baseEmi = FinancialUtils.calculateEmi(request.getLoanAmount(), request.getInterestRate(), maxMonths);
+
+        RateModel model = RateModel.of(request);
+        PathSimulator simulator = new PathSimulator(model, request.getLoanAmount().doubleValue(), baseEmi.doubleValue(),
+                maxMonths, request.isEnable13thEmi(), request.isEnableStepUp());
+
+        // 2. Run all paths in parallel, one result slot per path, until the time budget runs out
+        PathResults results = new PathResults(paths);
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        pool.invoke(new PathTask(simulator, results, new SplittableRandom(seed), 0, paths, deadline));
+
+        // 3. Percentile bands over the paths that ran
+        PathResults done = results.completed();
+        double[] saved = new double[done.size()];
+        for (int i = 0; i < saved.length; i++) {
+            saved[i] = done.regularInterest[i] - done.newInterest[i];
+        }
+
+        return new FloatingRateSimulationResponse(
+                done.size(),
+                done.size() < paths,
+                seed,
+                FinancialUtils.roundEmi(baseEmi),
+                band(done.regularInterest),
+                band(done.newInterest),
+                band(saved),
+                band(done.regularMonths),
+                band(done.newMonths),
+                band(done.regularShortfall),
+                band(done.newShortfall)
+        );
+    }
+
+    // Null (use the default) or 0..max
+    private static boolean isWithin(BigDecimal value, BigDecimal max) {
+        return value == null || (value.signum() >= 0 && value.compareTo(max) <= 0);
+    }
+
+    // Nearest-rank percentiles on a sorted copy
+    private static PercentileBandDto band(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return new PercentileBandDto(
+                FinancialUtils.roundEmi(BigDecimal.valueOf(percentile(sorted, 10))),
+                FinancialUtils.roundEmi(BigDecimal.valueOf(percentile(sorted, 50))),
+                FinancialUtils.roundEmi(BigDecimal.valueOf(percentile(sorted, 90)))
+        );
+    }
+
+    static double percentile(double[] sorted, int p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    // Mean-reverting annual rate (in %) stepped once per reset period
+    record RateModel(double startRate, double longRunRate, double drift, double shock, double floor, int resetMonths) {
+
+        static RateModel of(FloatingRateSimulationRequest request) {
+            int resetMonths = request.getResetMonths() != null ? request.getResetMonths() : DEFAULT_RESET_MONTHS;
+            double dt = resetMonths / 12.0;
+            double startRate = request.getInterestRate().doubleValue();
+            double longRunRate = request.getLongRunRate() != null ? request.getLongRunRate().doubleValue() : startRate;
+            double kappa = (request.getMeanReversionSpeed() != null ? request.getMeanReversionSpeed() : DEFAULT_MEAN_REVERSION).doubleValue();
+            double sigma = (request.getVolatility() != null ? request.getVolatility() : DEFAULT_VOLATILITY).doubleValue();
+            double floor = request.getRateFloor() != null ? request.getRateFloor().doubleValue() : 0;
+            return new RateModel(startRate, longRunRate, Math.min(1.0, kappa * dt), sigma * Math.sqrt(dt), floor, resetMonths);
+        }
+
+        double next(double rate, SplittableRandom random) {
+            double stepped = rate + drift * (longRunRate - rate) + shock * random.nextGaussian();
+            return Math.max(floor, stepped);
+        }
+    }
+
+    // Per-path output in parallel primitive arrays (index = path number)
+    static final class PathResults {
+        final double[] regularInterest;
+        final double[] newInterest;
+        final double[] regularMonths;
+        final double[] newMonths;
+        final double[] regularShortfall;
+        final double[] newShortfall;
+        final boolean[] ran;
+
+        PathResults(int paths) {
+            regularInterest = new double[paths];
+            newInterest = new double[paths];
+            regularMonths = new double[paths];
+            newMonths = new double[paths];
+            regularShortfall = new double[paths];
+            newShortfall = new double[paths];
+            ran = new boolean[paths];
+        }
+
+        int size() {
+            return ran.length;
+        }
+
+        // Only the paths that ran, in path order
+        PathResults completed() {
+            int count = 0;
+            for (boolean r : ran) if (r) count++;
+            if (count == ran.length) return this;
+
+            PathResults done = new PathResults(count);
+            for (int from = 0, to = 0; from < ran.length; from++) {
+                if (!ran[from]) continue;
+                done.regularInterest[to] = regularInterest[from];
+                done.newInterest[to] = newInterest[from];
+                done.regularMonths[to] = regularMonths[from];
+                done.newMonths[to] = newMonths[from];
+                done.regularShortfall[to] = regularShortfall[from];
+                done.newShortfall[to] = newShortfall[from];
+                done.ran[to++] = true;
+            }
+            return done;
+        }
+    }
+
+    /**
+     * Amortizes the regular and the optimized loan side by side on one rate path.
+     * Stateless, so one instance is shared by every worker.
+     */
+    static final class PathSimulator {
+        private final RateModel model;
+        private final double principal;
+        private final double baseEmi;
+        private final int maxMonths;
+        private final boolean is13thEmi;
+        private final boolean isStepUp;
+
+        PathSimulator(RateModel model, double principal, double baseEmi, int maxMonths, boolean is13thEmi, boolean isStepUp) {
+            this.model = model;
+            this.principal = principal;
+            this.baseEmi = baseEmi;
+            this.maxMonths = maxMonths;
+            this.is13thEmi = is13thEmi;
+            this.isStepUp = isStepUp;
+        }
+
+        void run(SplittableRandom random, PathResults results, int path) {
+            double rate = model.startRate();
+            double monthlyRate = rate / 1200;
+
+            double regularBalance = principal, regularEmi = baseEmi, regularInterest = 0, regularShortfall = 0;
+            double newBalance = principal, newEmi = baseEmi, newInterest = 0, newShortfall = 0;
+            int regularMonths = 0, newMonths = 0;
+
+            for (int month = 1; month <= maxMonths && (regularBalance > 0 || newBalance > 0); month++) {
+                // 1. Rate reset: new rate, and the EMI is raised if it can no longer finish in time
+                if (month > 1 && (month - 1) % model.resetMonths() == 0) {
+                    rate = model.next(rate, random);
+                    monthlyRate = rate / 1200;
+                    double factor = annuityFactor(monthlyRate, maxMonths - month + 1);
+                    regularEmi = Math.max(regularEmi, regularBalance * factor);
+                    newEmi = Math.max(newEmi, newBalance * factor);
+                }
+                boolean lastMonth = month == maxMonths;
+                boolean yearEnd = month % 12 == 0;
+
+                // 2. Regular loan
+                if (regularBalance > 0) {
+                    double interest = regularBalance * monthlyRate;
+                    regularInterest += interest;
+                    double remaining = regularBalance + interest - regularEmi;
+                    if (lastMonth && remaining >= SETTLEMENT_TOLERANCE) {
+                        regularShortfall = remaining; // Paid on top of the last EMI
+                    }
+                    regularBalance = (remaining < SETTLEMENT_TOLERANCE || lastMonth) ? 0 : remaining;
+                    regularMonths = month;
+                }
+
+                // 3. Optimized loan (13th EMI at year end, then step-up for the next year)
+                if (newBalance > 0) {
+                    double interest = newBalance * monthlyRate;
+                    newInterest += interest;
+                    double payment = (is13thEmi && yearEnd) ? newEmi * 2 : newEmi;
+                    double remaining = newBalance + interest - payment;
+                    if (lastMonth && remaining >= SETTLEMENT_TOLERANCE) {
+                        newShortfall = remaining;
+                    }
+                    newBalance = (remaining < SETTLEMENT_TOLERANCE || lastMonth) ? 0 : remaining;
+                    newMonths = month;
+                    if (isStepUp && yearEnd && newBalance > 0) {
+                        newEmi *= STEP_UP_FACTOR;
+                    }
+                }
+            }
+
+            results.regularInterest[path] = regularInterest;
+            results.newInterest[path] = newInterest;
+            results.regularMonths[path] = regularMonths;
+            results.newMonths[path] = newMonths;
+            results.regularShortfall[path] = regularShortfall;
+            results.newShortfall[path] = newShortfall;
+            results.ran[path] = true;
+        }
+
+        // EMI per rupee of balance over n months
+        private static double annuityFactor(double monthlyRate, int months) {
+            if (monthlyRate == 0) return 1.0 / months;
+            return monthlyRate / -Math.expm1(-months * Math.log1p(monthlyRate));
+        }
+    }
+
+    private static class PathTask extends RecursiveAction {
+        private final PathSimulator simulator;
+        private final PathResults results;
+        private final SplittableRandom random;
+        private final int from;
+        private final int to;
+        private final long deadline;
+
+        PathTask(PathSimulator simulator, PathResults results, SplittableRandom random, int from, int to, long deadline) {
+            this.simulator = simulator;
+            this.results = results;
+            this.random = random;
+            this.from = from;
+            this.to = to;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_PATHS) {
+                for (int path = from; path < to; path++) {
+                    if (path >= MIN_PATHS && System.nanoTime() - deadline > 0) return;
+                    simulator.run(random, results, path);
+                }
+                return;
+            }
+            // Split before forking so the random streams depend only on the path range, not on scheduling
+            int mid = (from + to) >>> 1;
+            SplittableRandom right = random.split();
+            invokeAll(new PathTask(simulator, results, random, from, mid, deadline),
+                    new PathTask(simulator, results, right, mid, to, deadline));
+        }
+    }
+}
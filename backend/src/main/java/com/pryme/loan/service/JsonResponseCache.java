@@ -0,0 +1,139 @@
+package com.pryme.loan.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Finished response bodies for public endpoints that are the same for every visitor (loan list,
+ * featured reviews, blog index): the JSON is serialized and gzipped once, and each request just
+ * writes the stored bytes in the encoding the client accepts, with a strong ETag for 304s (one
+ * per encoding: the gzip tag carries a "-gz" suffix, so a cache never revalidates the wrong bytes).
+ * Entries are dropped by the admin write paths through {@link #invalidate(String)}.
+ *
+ * Brotli is not offered: the JDK has no encoder and the native bindings are not worth it for a
+ * body compressed a few times a day; gzip at best compression gets most of the way.
+ */
+@Service
+public class JsonResponseCache {
+
+    public static final String LOANS = "loans";
+    public static final String REVIEWS = "featuredReviews";
+    public static final String BLOGS = "blogs";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CachedJson> responses;
+
+    public JsonResponseCache(ObjectMapper objectMapper, CacheStatsRegistry cacheStatsRegistry) {
+        this.objectMapper = objectMapper;
+        this.responses = Caffeine.newBuilder().recordStats().build();
+        cacheStatsRegistry.register("publicResponses", responses);
+    }
+
+    /**
+     * Cached bytes for {@code name} (serializing {@code body} on a miss), as a 200 in the best
+     * accepted encoding, or a 304 if the client's If-None-Match still matches.
+     */
+    public ResponseEntity<byte[]> serve(String name, Supplier<?> body, WebRequest request) {
+        CachedJson json = responses.get(name, key -> encode(body.get()));
+        boolean gzip = json.gzip != null && accepts(request.getHeader(HttpHeaders.ACCEPT_ENCODING), "gzip");
+        String etag = gzip ? json.gzipEtag() : json.etag;
+        if (request.checkNotModified(etag)) {
+            return null; // 304 already set up by checkNotModified
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePublic()) // Cache it, but revalidate every time
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? json.gzip : json.identity);
+    }
+
+    /**
+     * Drops an entry once the current transaction commits (call after the source's own cache is dropped).
+     */
+    public void invalidate(String name) {
+        AfterCommit.run(() -> responses.invalidate(name));
+    }
+
+    private CachedJson encode(Object body) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(body);
+            byte[] gzip = gzip(identity);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(identity);
+            String etag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+            return new CachedJson(identity, gzip.length < identity.length ? gzip : null, etag);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not serialize the cached response", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // Accept-Encoding lists the coding (or *) without q=0
+    static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) return false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String name = params[0].trim().toLowerCase(Locale.ROOT);
+            if (!name.equals(coding) && !name.equals("*")) continue;
+
+            boolean refused = false;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        refused = Double.parseDouble(param.substring(2)) <= 0;
+                    } catch (NumberFormatException e) {
+                        refused = true;
+                    }
+                }
+            }
+            if (!refused) return true;
+        }
+        return false;
+    }
+
+    // Serialized once; gzip is null when it would not be smaller
+    private record CachedJson(byte[] identity, byte[] gzip, String etag) {
+
+        String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gz\"";
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.repository.LoanProductRepository;
+import com.pryme.loan.entity.LoanProduct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Holds the current {@link LoanCatalogSnapshot} and {@link ProductCatalogIndex}, built together
+ * from one read of the products. Built on first use and dropped whenever an admin changes a bank
+ * or product (the next reader builds fresh copies), so readers never touch the database on the hot path.
+ */
+@Service
+@RequiredArgsConstructor
+public class LoanCatalogService {
+
+    private final LoanProductRepository loanProductRepository;
+
+    private volatile Catalog catalog;
+
+    public LoanCatalogSnapshot current() {
+        return catalog().snapshot;
+    }
+
+    public ProductCatalogIndex index() {
+        return catalog().index;
+    }
+
+    private Catalog catalog() {
+        Catalog current = catalog;
+        if (current == null) {
+            synchronized (this) {
+                current = catalog;
+                if (current == null) {
+                    // Banks fetched in the same query: both builds read product.getBank() for every row
+                    List<LoanProduct> products = loanProductRepository.findAllWithBank();
+                    current = new Catalog(LoanCatalogSnapshot.of(products), ProductCatalogIndex.of(products));
+                    catalog = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Drops both. Inside a transaction this waits for the commit, otherwise a reader
+     * could rebuild from the old rows and keep them.
+     */
+    public void invalidate() {
+        AfterCommit.run(this::clear);
+    }
+
+    // Synchronized with the rebuild, so a build that read the old rows cannot publish after this
+    private synchronized void clear() {
+        catalog = null;
+    }
+
+    private record Catalog(LoanCatalogSnapshot snapshot, ProductCatalogIndex index) {}
+}
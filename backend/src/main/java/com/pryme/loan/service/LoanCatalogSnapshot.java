@@ -0,0 +1,142 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.entity.LoanProduct;
+import com.pryme.loan.utils.LoanTermsParser;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable, column-per-field copy of every active loan product, with the text terms already
+ * parsed into numbers. Rows are sorted by rate (then by how much one rupee of EMI can borrow),
+ * so a scan in row order visits the cheapest products first.
+ *
+ * Products whose rate or tenure cannot be read are left out (see {@link #skipped}).
+ */
+public final class LoanCatalogSnapshot {
+
+    final int size;
+    final int skipped;
+    final long[] productIds;
+    final String[] bankNames;
+    final String[] types;
+    final double[] annualRates;     // %
+    final int[] tenureMonths;       // Longest tenure offered
+    final double[] annuityFactors;  // EMI per rupee borrowed at that rate and tenure
+    final double[] maxAmounts;      // Rupees, +Infinity when not stated
+    final double[] minSalaries;
+    final int[] minCibils;
+    final double[] feePercents;     // Processing fee = min(max(amount x % + flat, floor), cap)
+    final double[] feeFlats;
+    final double[] feeFloors;
+    final double[] feeCaps;
+
+    private LoanCatalogSnapshot(List<Row> rows, int skipped) {
+        this.size = rows.size();
+        this.skipped = skipped;
+        this.productIds = new long[size];
+        this.bankNames = new String[size];
+        this.types = new String[size];
+        this.annualRates = new double[size];
+        this.tenureMonths = new int[size];
+        this.annuityFactors = new double[size];
+        this.maxAmounts = new double[size];
+        this.minSalaries = new double[size];
+        this.minCibils = new int[size];
+        this.feePercents = new double[size];
+        this.feeFlats = new double[size];
+        this.feeFloors = new double[size];
+        this.feeCaps = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            Row row = rows.get(i);
+            productIds[i] = row.productId;
+            bankNames[i] = row.bankName;
+            types[i] = row.type;
+            annualRates[i] = row.annualRate;
+            tenureMonths[i] = row.tenureMonths;
+            annuityFactors[i] = row.annuityFactor;
+            maxAmounts[i] = row.maxAmount;
+            minSalaries[i] = row.minSalary;
+            minCibils[i] = row.minCibil;
+            feePercents[i] = row.fee.percent();
+            feeFlats[i] = row.fee.flat();
+            feeFloors[i] = row.fee.floor();
+            feeCaps[i] = row.fee.cap();
+        }
+    }
+
+    public static LoanCatalogSnapshot of(List<LoanProduct> products) {
+        List<Row> rows = new ArrayList<>(products.size());
+        int skipped = 0;
+        for (LoanProduct product : products) {
+            if (product.getBank() == null || !product.getBank().isActive()) continue;
+
+            double rate = annualRate(product);
+            int tenure = product.getMaxTenureMonths() != null
+                    ? product.getMaxTenureMonths()
+                    : LoanTermsParser.parseMaxTenureMonths(product.getTenure());
+            if (Double.isNaN(rate) || rate < 0 || tenure <= 0) {
+                skipped++;
+                continue;
+            }
+            double maxAmount = product.getMaxAmountPaise() != null
+                    ? product.getMaxAmountPaise() / 100.0
+                    : LoanTermsParser.parseAmount(product.getMaxAmount());
+
+            rows.add(new Row(
+                    product.getId(),
+                    product.getBank().getName(),
+                    product.getType(),
+                    rate,
+                    tenure,
+                    annuityFactor(rate, tenure),
+                    Double.isNaN(maxAmount) ? Double.POSITIVE_INFINITY : maxAmount,
+                    product.getMinSalary() != null ? product.getMinSalary().doubleValue() : 0,
+                    product.getMinCibil() != null ? product.getMinCibil() : 0,
+                    fee(product)
+            ));
+        }
+        rows.sort(Comparator.comparingDouble((Row r) -> r.annualRate).thenComparingDouble(r -> r.annuityFactor));
+        return new LoanCatalogSnapshot(rows, skipped);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    double processingFee(int row, double principal) {
+        return Math.min(Math.max(principal * feePercents[row] / 100 + feeFlats[row], feeFloors[row]), feeCaps[row]);
+    }
+
+    // The numeric columns (LoanProduct#deriveNumericTerms) when the row has them, else the text
+    static double annualRate(LoanProduct product) {
+        return product.getRateBps() != null
+                ? product.getRateBps() / 100.0
+                : LoanTermsParser.parseRate(product.getInterestRate());
+    }
+
+    private static LoanTermsParser.Fee fee(LoanProduct product) {
+        // No floor column: derived by an older parser (or not at all), so read the text
+        if (product.getFeeBps() == null || product.getFeeFloorPaise() == null) {
+            return LoanTermsParser.parseFee(product.getProcessingFee());
+        }
+        return new LoanTermsParser.Fee(
+                product.getFeeBps() / 100.0,
+                product.getFeeFlatPaise() != null ? product.getFeeFlatPaise() / 100.0 : 0,
+                product.getFeeFloorPaise() / 100.0,
+                product.getFeeCapPaise() != null ? product.getFeeCapPaise() / 100.0 : Double.POSITIVE_INFINITY);
+    }
+
+    // EMI per rupee: r(1+r)^n / ((1+r)^n - 1), or 1/n at a zero rate
+    static double annuityFactor(double annualRate, int months) {
+        double r = annualRate / 1200;
+        if (r == 0) return 1.0 / months;
+        return r / -Math.expm1(-months * Math.log1p(r));
+    }
+
+    private record Row(long productId, String bankName, String type, double annualRate, int tenureMonths,
+                       double annuityFactor, double maxAmount, double minSalary, int minCibil,
+                       LoanTermsParser.Fee fee) {}
+}
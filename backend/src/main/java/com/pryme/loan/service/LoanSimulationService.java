@@ -4,16 +4,14 @@ import com.pryme.loan.dto.EligibilityRequest;
 import com.pryme.loan.dto.EligibilityResponse;
 import com.pryme.loan.dto.PrePaymentRequest;
 import com.pryme.loan.dto.PrePaymentResponse;
+import com.pryme.loan.dto.ScheduleGranularity;
 
 public interface LoanSimulationService {
 
     public EligibilityResponse checkEligibility(EligibilityRequest request);
     PrePaymentResponse calculatePrePaymentSavings(PrePaymentRequest request);
 
-
-
-
-
-
+    // Pushes the "regular" then "optimized" schedule into the sink while simulating (no list is built)
+    void streamPrePaymentSchedule(PrePaymentRequest request, ScheduleGranularity granularity, AmortizationScheduleSink sink);
 }
 
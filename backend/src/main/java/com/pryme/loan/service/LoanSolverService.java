@@ -0,0 +1,74 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.dto.PrincipalSolveRequest;
+import com.pryme.loan.dto.PrincipalSolveResponse;
+import com.pryme.loan.dto.TenureSolveRequest;
+import com.pryme.loan.dto.TenureSolveResponse;
+import com.pryme.loan.utils.FinancialUtils;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Inverse EMI calculators: "what tenure gives me this EMI?" and "how much can this EMI borrow?".
+ * Both are closed form on top of FinancialUtils, so one call replaces a loop over /emi.
+ */
+@Service
+public class LoanSolverService {
+
+    public static final int MAX_TENURE_MONTHS = CalculatorLimits.MAX_TENURE_MONTHS;
+
+    private static final double MAX_AMOUNT = CalculatorLimits.MAX_AMOUNT.doubleValue();
+    private static final double MAX_RATE = CalculatorLimits.MAX_PERCENT.doubleValue();
+
+    public boolean isValid(TenureSolveRequest request) {
+        return request.getPrincipal() > 0 && request.getPrincipal() <= MAX_AMOUNT
+                && request.getAnnualRate() >= 0 && request.getAnnualRate() <= MAX_RATE
+                && request.getTargetEmi() > 0 && request.getTargetEmi() <= MAX_AMOUNT;
+    }
+
+    public boolean isValid(PrincipalSolveRequest request) {
+        return request.getTargetEmi() > 0 && request.getTargetEmi() <= MAX_AMOUNT
+                && request.getAnnualRate() >= 0 && request.getAnnualRate() <= MAX_RATE
+                && request.getTenureYears() > 0 && request.getTenureYears() <= CalculatorLimits.MAX_TENURE_YEARS;
+    }
+
+    public TenureSolveResponse solveTenure(TenureSolveRequest request) {
+        if (!isValid(request)) return new TenureSolveResponse(false, 0, 0, 0, 0);
+
+        BigDecimal principal = BigDecimal.valueOf(request.getPrincipal());
+        BigDecimal rate = BigDecimal.valueOf(request.getAnnualRate());
+        int months = FinancialUtils.calculateTenureMonths(principal, rate, BigDecimal.valueOf(request.getTargetEmi()), MAX_TENURE_MONTHS);
+        if (months < 0) {
+            return new TenureSolveResponse(false, 0, 0, 0, 0);
+        }
+
+        BigDecimal emi = FinancialUtils.roundCurrency(FinancialUtils.calculateEmi(principal, rate, months));
+        BigDecimal totalPayment = emi.multiply(BigDecimal.valueOf(months));
+        return new TenureSolveResponse(
+                true,
+                months,
+                emi.doubleValue(),
+                FinancialUtils.roundCurrency(totalPayment.subtract(principal)).doubleValue(),
+                FinancialUtils.roundCurrency(totalPayment).doubleValue()
+        );
+    }
+
+    public PrincipalSolveResponse solvePrincipal(PrincipalSolveRequest request) {
+        if (!isValid(request)) return new PrincipalSolveResponse(0, 0, 0);
+
+        int months = request.getTenureYears() * 12;
+        BigDecimal emi = BigDecimal.valueOf(request.getTargetEmi());
+        // Rounded down so the EMI on the answer never exceeds the target
+        BigDecimal principal = FinancialUtils.calculatePrincipal(emi, BigDecimal.valueOf(request.getAnnualRate()), months)
+                .setScale(0, RoundingMode.FLOOR);
+        BigDecimal totalPayment = emi.multiply(BigDecimal.valueOf(months));
+
+        return new PrincipalSolveResponse(
+                principal.doubleValue(),
+                FinancialUtils.roundCurrency(totalPayment.subtract(principal)).doubleValue(),
+                FinancialUtils.roundCurrency(totalPayment).doubleValue()
+        );
+    }
+}
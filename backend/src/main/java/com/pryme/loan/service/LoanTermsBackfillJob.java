@@ -0,0 +1,56 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.entity.LoanProduct;
+import com.pryme.loan.repository.LoanProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * One-time fill of the numeric term columns on products saved before those columns existed, or
+ * derived by the older fee parser (new writes derive them in {@link LoanProduct#deriveNumericTerms()}).
+ * Walks the rows without a fee floor (the last column added) in id order, a batch per save, once
+ * the app is up. Disable with pryme.catalog.terms-backfill.enabled=false.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "pryme.catalog.terms-backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class LoanTermsBackfillJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoanTermsBackfillJob.class);
+
+    private final LoanProductRepository loanProductRepository;
+    private final LoanCatalogService loanCatalogService;
+    private final EligibilityBucketService eligibilityBucketService;
+
+    // First on startup, so EligibilityBucketService#materializeAll (order 2) reads the filled columns
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void backfill() {
+        long lastId = 0;
+        int updated = 0;
+        List<LoanProduct> batch;
+        do {
+            batch = loanProductRepository.findTop500ByFeeFloorPaiseIsNullAndIdGreaterThanOrderByIdAsc(lastId);
+            for (LoanProduct product : batch) {
+                product.deriveNumericTerms();
+                lastId = product.getId();
+            }
+            updated += batch.size();
+            loanProductRepository.saveAll(batch);
+        } while (!batch.isEmpty());
+
+        if (updated > 0) {
+            logger.info("Backfilled numeric terms for {} loan products", updated);
+            loanCatalogService.invalidate();
+            eligibilityBucketService.invalidateAll(); // Cells built by early requests hold the old entities
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.config.ComputeConfig;
+import com.pryme.loan.dto.LumpSumDto;
+import com.pryme.loan.dto.OptimizedStrategyDto;
+import com.pryme.loan.dto.PrepaymentOptimizationRequest;
+import com.pryme.loan.dto.PrepaymentOptimizationResponse;
+import com.pryme.loan.utils.FinancialUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Searches pre-payment strategies within a user's budget and returns the Pareto-best ones
+ * (no other strategy saves more interest for the same or less extra cash).
+ *
+ * Strategy space = extra-per-year levels x step-up levels x subsets of the given lump sums.
+ * Candidates are split across the calculator ForkJoinPool; each leaf simulates on primitives
+ * and abandons a candidate at a year end as soon as its best possible outcome is already
+ * dominated by a strategy on the leaf's frontier.
+ */
+@Service
+public class PrepaymentOptimizerService {
+
+    static final int EXTRA_LEVELS = 11;                 // 0%, 10% ... 100% of maxExtraPerYear
+    static final BigDecimal STEP_UP_INCREMENT = new BigDecimal("0.5");
+    static final int MAX_STEP_UP_LEVELS = 41;           // 0% .. 20% in 0.5% steps
+    public static final int MAX_LUMP_SUMS = 8;          // 2^8 subsets
+    static final BigDecimal MAX_AMOUNT = CalculatorLimits.MAX_AMOUNT;
+    static final BigDecimal MAX_PERCENT = CalculatorLimits.MAX_PERCENT;
+    private static final int LEAF_SIZE = 512;
+
+    private final ForkJoinPool pool;
+
+    public PrepaymentOptimizerService(@Qualifier(ComputeConfig.CALCULATOR_POOL) ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public boolean isValid(PrepaymentOptimizationRequest request) {
+        if (request.getLoanAmount() == null || request.getInterestRate() == null || request.getTenureYears() == null
+                || request.getTenureYears() <= 0 || request.getTenureYears() > LoanSolverService.MAX_TENURE_MONTHS / 12
+                || request.getLoanAmount().signum() <= 0 || request.getLoanAmount().compareTo(MAX_AMOUNT) > 0
+                || request.getInterestRate().signum() < 0 || request.getInterestRate().compareTo(MAX_PERCENT) > 0) {
+            return false;
+        }
+        if (request.getMaxExtraPerYear() != null
+                && (request.getMaxExtraPerYear().signum() < 0 || request.getMaxExtraPerYear().compareTo(MAX_AMOUNT) > 0)) return false;
+        if (request.getMaxStepUpPercent() != null
+                && (request.getMaxStepUpPercent().signum() < 0 || request.getMaxStepUpPercent().compareTo(MAX_PERCENT) > 0)) return false;
+
+        List<LumpSumDto> lumpSums = request.getLumpSums();
+        if (lumpSums == null) return true;
+        if (lumpSums.size() > MAX_LUMP_SUMS) return false;
+        int tenureMonths = request.getTenureYears() * 12;
+        return lumpSums.stream().allMatch(l -> l.month() >= 1 && l.month() <= tenureMonths
+                && l.amount() != null && l.amount().signum() > 0 && l.amount().compareTo(MAX_AMOUNT) <= 0);
+    }
+
+    public PrepaymentOptimizationResponse optimize(PrepaymentOptimizationRequest request) {
+        SearchSpace space = SearchSpace.of(request);
+
+        // 1. Baseline (no strategy) and a seed frontier from the cheap one-dimensional strategies
+        long[] out = new long[3];
+        space.simulate(0, 0, 0, null, 0, out);
+        long regularInterest = out[0];
+
+        ParetoFrontier seed = new ParetoFrontier();
+        for (int e = 1; e < space.extraLevels.length; e++) {
+            space.simulate(e, 0, 0, null, regularInterest, out);
+            seed.add(out[1], regularInterest - out[0], space.index(e, 0, 0));
+        }
+        for (int s = 1; s < space.stepUpFactors.length; s++) {
+            space.simulate(0, s, 0, null, regularInterest, out);
+            seed.add(out[1], regularInterest - out[0], space.index(0, s, 0));
+        }
+        for (int mask = 1; mask < 1 << space.lumpMonths.length; mask++) {
+            space.simulate(0, 0, mask, null, regularInterest, out);
+            seed.add(out[1], regularInterest - out[0], space.index(0, 0, mask));
+        }
+
+        // 2. Full search in parallel; each leaf prunes against its own copy of the frontier
+        LeafResult result = pool.invoke(new SearchTask(space, seed, regularInterest, 0, space.size()));
+
+        // 3. Decode the frontier (skip the "do nothing" point)
+        List<OptimizedStrategyDto> strategies = new ArrayList<>();
+        ParetoFrontier frontier = result.frontier;
+        for (int i = 0; i < frontier.size; i++) {
+            if (frontier.extra[i] == 0) continue;
+            strategies.add(space.describe(frontier.candidate[i], regularInterest, out));
+        }
+
+        return new PrepaymentOptimizationResponse(
+                FinancialUtils.roundEmi(FinancialUtils.fromUnits(space.baseEmi)),
+                FinancialUtils.roundEmi(FinancialUtils.fromUnits(regularInterest)),
+                result.evaluated,
+                result.pruned,
+                strategies
+        );
+    }
+
+    /**
+     * Immutable description of the strategy grid, all money in fixed-point units.
+     * Candidate index = (extraIdx * stepLevels + stepIdx) * 2^lumps + lumpMask.
+     */
+    static final class SearchSpace {
+        final long principal;
+        final double monthlyRate;
+        final long baseEmi;
+        final int maxMonths;
+        final long[] extraLevels;
+        final BigDecimal[] stepUpPercents;
+        final double[] stepUpFactors;
+        final int[] lumpMonths;
+        final long[] lumpAmounts;
+        final long settlementTolerance = FinancialUtils.toUnits(FinancialUtils.SETTLEMENT_TOLERANCE);
+
+        private SearchSpace(long principal, double monthlyRate, long baseEmi, int maxMonths, long[] extraLevels,
+                            BigDecimal[] stepUpPercents, int[] lumpMonths, long[] lumpAmounts) {
+            this.principal = principal;
+            this.monthlyRate = monthlyRate;
+            this.baseEmi = baseEmi;
+            this.maxMonths = maxMonths;
+            this.extraLevels = extraLevels;
+            this.stepUpPercents = stepUpPercents;
+            this.stepUpFactors = new double[stepUpPercents.length];
+            for (int i = 0; i < stepUpPercents.length; i++) {
+                stepUpFactors[i] = 1.0 + stepUpPercents[i].doubleValue() / 100.0;
+            }
+            this.lumpMonths = lumpMonths;
+            this.lumpAmounts = lumpAmounts;
+        }
+
+        static SearchSpace of(PrepaymentOptimizationRequest request) {
+            int maxMonths = request.getTenureYears() * 12;
+            BigDecimal baseEmi = FinancialUtils.calculateEmi(request.getLoanAmount(), request.getInterestRate(), maxMonths);
+
+            // Extra per year: evenly spaced up to the budget (a zero budget collapses to one level)
+            long maxExtra = FinancialUtils.toUnits(request.getMaxExtraPerYear());
+            int extraCount = maxExtra > 0 ? EXTRA_LEVELS : 1;
+            long[] extraLevels = new long[extraCount];
+            for (int i = 0; i < extraCount; i++) {
+                extraLevels[i] = extraCount == 1 ? 0 : maxExtra * i / (extraCount - 1);
+            }
+
+            // Step-up: 0.5% increments up to the budget
+            BigDecimal maxStepUp = request.getMaxStepUpPercent() != null ? request.getMaxStepUpPercent() : BigDecimal.ZERO;
+            int stepCount = maxStepUp.divide(STEP_UP_INCREMENT, 0, RoundingMode.FLOOR)
+                    .min(BigDecimal.valueOf(MAX_STEP_UP_LEVELS - 1)) // Clamped before intValue() can wrap
+                    .intValue() + 1;
+            BigDecimal[] stepUpPercents = new BigDecimal[stepCount];
+            for (int i = 0; i < stepCount; i++) {
+                stepUpPercents[i] = STEP_UP_INCREMENT.multiply(BigDecimal.valueOf(i));
+            }
+
+            // Sorted by month so the simulation walks them with a single cursor
+            List<LumpSumDto> lumpSums = request.getLumpSums() != null
+                    ? request.getLumpSums().stream().sorted(Comparator.comparingInt(LumpSumDto::month)).toList()
+                    : List.of();
+            int[] lumpMonths = new int[lumpSums.size()];
+            long[] lumpAmounts = new long[lumpSums.size()];
+            for (int i = 0; i < lumpSums.size(); i++) {
+                lumpMonths[i] = lumpSums.get(i).month();
+                lumpAmounts[i] = FinancialUtils.toUnits(lumpSums.get(i).amount());
+            }
+
+            return new SearchSpace(
+                    FinancialUtils.toUnits(request.getLoanAmount()),
+                    FinancialUtils.getMonthlyRate(request.getInterestRate()).doubleValue(),
+                    FinancialUtils.toUnits(baseEmi),
+                    maxMonths, extraLevels, stepUpPercents, lumpMonths, lumpAmounts);
+        }
+
+        int size() {
+            return extraLevels.length * stepUpFactors.length << lumpMonths.length;
+        }
+
+        int index(int extraIdx, int stepIdx, int lumpMask) {
+            return ((extraIdx * stepUpFactors.length + stepIdx) << lumpMonths.length) | lumpMask;
+        }
+
+        /**
+         * Simulates one strategy. With a frontier, stops at a year end once the candidate cannot
+         * beat it: extra paid only grows and interest saved can only shrink from here on.
+         *
+         * @param out receives {totalInterest, extraPaid, monthsTaken}
+         * @return false if the candidate was pruned
+         */
+        boolean simulate(int extraIdx, int stepIdx, int lumpMask, ParetoFrontier frontier, long regularInterest, long[] out) {
+            long yearlyExtra = extraLevels[extraIdx];
+            double stepUpFactor = stepUpFactors[stepIdx];
+
+            long balance = principal;
+            long totalInterest = 0;
+            long extraPaid = 0;
+            long emi = baseEmi;
+            int month = 0;
+            int nextLump = 0;
+
+            while (balance > 0 && month < maxMonths) {
+                month++;
+
+                long interestForMonth = Math.round(balance * monthlyRate);
+                totalInterest += interestForMonth;
+
+                boolean yearEnd = month % 12 == 0;
+                long payment = yearEnd ? emi + yearlyExtra : emi;
+                while (nextLump < lumpMonths.length && lumpMonths[nextLump] == month) {
+                    if ((lumpMask & (1 << nextLump)) != 0) {
+                        payment += lumpAmounts[nextLump];
+                    }
+                    nextLump++;
+                }
+
+                long remaining = balance + interestForMonth - payment;
+                if (remaining < settlementTolerance) {
+                    payment = balance + interestForMonth;
+                    balance = 0;
+                } else {
+                    balance = remaining;
+                }
+                if (payment > baseEmi) {
+                    extraPaid += payment - baseEmi;
+                }
+
+                if (yearEnd && balance > 0) {
+                    if (month < maxMonths) {
+                        emi = Math.round(emi * stepUpFactor);
+                    }
+                    if (frontier != null && frontier.dominates(extraPaid, regularInterest - totalInterest)) {
+                        return false;
+                    }
+                }
+            }
+
+            out[0] = totalInterest;
+            out[1] = extraPaid;
+            out[2] = month;
+            return true;
+        }
+
+        OptimizedStrategyDto describe(int candidate, long regularInterest, long[] out) {
+            int lumpMask = candidate & ((1 << lumpMonths.length) - 1);
+            int rest = candidate >>> lumpMonths.length;
+            int stepIdx = rest % stepUpFactors.length;
+            int extraIdx = rest / stepUpFactors.length;
+
+            simulate(extraIdx, stepIdx, lumpMask, null, regularInterest, out);
+
+            List<Integer> months = new ArrayList<>();
+            for (int l = 0; l < lumpMonths.length; l++) {
+                if ((lumpMask & (1 << l)) != 0) months.add(lumpMonths[l]);
+            }
+            return new OptimizedStrategyDto(
+                    FinancialUtils.roundEmi(FinancialUtils.fromUnits(extraLevels[extraIdx])),
+                    stepUpPercents[stepIdx],
+                    months,
+                    FinancialUtils.roundEmi(FinancialUtils.fromUnits(out[1])),
+                    FinancialUtils.roundEmi(FinancialUtils.fromUnits(regularInterest - out[0])),
+                    (int) out[2],
+                    maxMonths - (int) out[2]
+            );
+        }
+    }
+
+    /**
+     * Pareto frontier sorted by extra paid ascending; interest saved is then strictly ascending too,
+     * so "is (extra, saved) dominated?" is a single binary search.
+     */
+    static final class ParetoFrontier {
+        long[] extra = new long[16];
+        long[] saved = new long[16];
+        int[] candidate = new int[16];
+        int size;
+
+        ParetoFrontier copy() {
+            ParetoFrontier copy = new ParetoFrontier();
+            copy.extra = Arrays.copyOf(extra, extra.length);
+            copy.saved = Arrays.copyOf(saved, saved.length);
+            copy.candidate = Arrays.copyOf(candidate, candidate.length);
+            copy.size = size;
+            return copy;
+        }
+
+        // True if some point pays no more extra and saves at least as much
+        boolean dominates(long extraPaid, long interestSaved) {
+            int i = lastAtOrBelow(extraPaid);
+            return i >= 0 && saved[i] >= interestSaved;
+        }
+
+        void add(long extraPaid, long interestSaved, int candidateIndex) {
+            if (dominates(extraPaid, interestSaved)) return;
+
+            // Points from the insertion position on with saved <= new saved are now dominated,
+            // including one with exactly the same extra (it saves less, or dominates() would have said so)
+            int from = lastAtOrBelow(extraPaid) + 1;
+            if (from > 0 && extra[from - 1] == extraPaid) from--;
+            int to = from;
+            while (to < size && saved[to] <= interestSaved) to++;
+
+            int shift = 1 - (to - from);
+            if (size + shift > extra.length) {
+                int capacity = extra.length * 2;
+                extra = Arrays.copyOf(extra, capacity);
+                saved = Arrays.copyOf(saved, capacity);
+                candidate = Arrays.copyOf(candidate, capacity);
+            }
+            System.arraycopy(extra, to, extra, from + 1, size - to);
+            System.arraycopy(saved, to, saved, from + 1, size - to);
+            System.arraycopy(candidate, to, candidate, from + 1, size - to);
+            extra[from] = extraPaid;
+            saved[from] = interestSaved;
+            candidate[from] = candidateIndex;
+            size += shift;
+        }
+
+        void addAll(ParetoFrontier other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.extra[i], other.saved[i], other.candidate[i]);
+            }
+        }
+
+        private int lastAtOrBelow(long extraPaid) {
+            int lo = 0;
+            int hi = size - 1;
+            int found = -1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (extra[mid] <= extraPaid) {
+                    found = mid;
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return found;
+        }
+    }
+
+    private record LeafResult(ParetoFrontier frontier, int evaluated, int pruned) {}
+
+    private static class SearchTask extends RecursiveTask<LeafResult> {
+        private final SearchSpace space;
+        private final ParetoFrontier seed;
+        private final long regularInterest;
+        private final int from;
+        private final int to;
+
+        SearchTask(SearchSpace space, ParetoFrontier seed, long regularInterest, int from, int to) {
+            this.space = space;
+            this.seed = seed;
+            this.regularInterest = regularInterest;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected LeafResult compute() {
+            if (to - from <= LEAF_SIZE) {
+                return searchLeaf();
+            }
+            int mid = (from + to) >>> 1;
+            SearchTask right = new SearchTask(space, seed, regularInterest, mid, to);
+            right.fork();
+            LeafResult left = new SearchTask(space, seed, regularInterest, from, mid).compute();
+            LeafResult rightResult = right.join();
+
+            left.frontier.addAll(rightResult.frontier);
+            return new LeafResult(left.frontier, left.evaluated + rightResult.evaluated, left.pruned + rightResult.pruned);
+        }
+
+        private LeafResult searchLeaf() {
+            ParetoFrontier frontier = seed.copy();
+            long[] out = new long[3];
+            int lumpBits = space.lumpMonths.length;
+            int lumpMaskAll = (1 << lumpBits) - 1;
+            int pruned = 0;
+
+            for (int c = from; c < to; c++) {
+                int rest = c >>> lumpBits;
+                if (space.simulate(rest / space.stepUpFactors.length, rest % space.stepUpFactors.length,
+                        c & lumpMaskAll, frontier, regularInterest, out)) {
+                    frontier.add(out[1], regularInterest - out[0], c);
+                } else {
+                    pruned++;
+                }
+            }
+            return new LeafResult(frontier, to - from, pruned);
+        }
+    }
+}
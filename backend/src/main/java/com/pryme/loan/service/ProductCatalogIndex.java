@@ -0,0 +1,162 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.entity.LoanProduct;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable lookup index over every active loan product, for "which products of this type can
+ * I get with this salary and CIBIL score, cheapest first".
+ *
+ * Per product type:
+ *  - products sorted once by numeric rate (unreadable rates last), so results come back in rate
+ *    order by sorting positions instead of parsing or comparing rate strings
+ *  - products grouped by their (few distinct) minimum CIBIL, each group sorted by minimum salary,
+ *    so a lookup is a binary search per group and only touches products that qualify
+ * A missing minimum salary / CIBIL means no minimum.
+ */
+public final class ProductCatalogIndex {
+
+    private static final TypeIndex EMPTY = new TypeIndex(new LoanProduct[0], new int[0], new double[0][], new int[0][]);
+
+    private final Map<String, TypeIndex> byType;
+    private final int size;
+
+    private ProductCatalogIndex(Map<String, TypeIndex> byType, int size) {
+        this.byType = byType;
+        this.size = size;
+    }
+
+    public static ProductCatalogIndex of(List<LoanProduct> products) {
+        Map<String, List<LoanProduct>> grouped = new HashMap<>();
+        int size = 0;
+        for (LoanProduct product : products) {
+            if (product.getBank() == null || !product.getBank().isActive() || product.getType() == null) continue;
+            grouped.computeIfAbsent(product.getType(), type -> new ArrayList<>()).add(product);
+            size++;
+        }
+
+        Map<String, TypeIndex> byType = new HashMap<>();
+        grouped.forEach((type, list) -> byType.put(type, TypeIndex.of(list)));
+        return new ProductCatalogIndex(byType, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Set<String> types() {
+        return byType.keySet();
+    }
+
+    /**
+     * Products of {@code type} whose minimum salary and CIBIL the applicant meets, lowest rate first.
+     */
+    public List<LoanProduct> eligible(String type, double monthlyIncome, int cibilScore) {
+        return byType.getOrDefault(type, EMPTY).eligible(monthlyIncome, cibilScore);
+    }
+
+    private record TypeIndex(
+            LoanProduct[] byRate,    // Cheapest first
+            int[] cibilThresholds,   // Distinct minimum CIBIL scores, ascending
+            double[][] minSalaries,  // Per threshold group, ascending
+            int[][] rateRanks        // Per group, position in byRate (same order as minSalaries)
+    ) {
+
+        static TypeIndex of(List<LoanProduct> products) {
+            // 1. Rate order, parsed once
+            double[] rates = new double[products.size()];
+            Integer[] order = new Integer[products.size()];
+            for (int i = 0; i < rates.length; i++) {
+                double rate = LoanCatalogSnapshot.annualRate(products.get(i));
+                rates[i] = Double.isNaN(rate) ? Double.POSITIVE_INFINITY : rate;
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.<Integer>comparingDouble(i -> rates[i])
+                    .thenComparing(i -> products.get(i).getId(), Comparator.nullsLast(Comparator.naturalOrder())));
+            LoanProduct[] byRate = new LoanProduct[order.length];
+            for (int rank = 0; rank < order.length; rank++) {
+                byRate[rank] = products.get(order[rank]);
+            }
+
+            // 2. Group by minimum CIBIL, each group by minimum salary
+            TreeMap<Integer, List<Integer>> groups = new TreeMap<>();
+            for (int rank = 0; rank < byRate.length; rank++) {
+                groups.computeIfAbsent(minCibil(byRate[rank]), cibil -> new ArrayList<>()).add(rank);
+            }
+            int[] thresholds = new int[groups.size()];
+            double[][] minSalaries = new double[groups.size()][];
+            int[][] rateRanks = new int[groups.size()][];
+            int g = 0;
+            for (Map.Entry<Integer, List<Integer>> group : groups.entrySet()) {
+                List<Integer> ranks = group.getValue();
+                ranks.sort(Comparator.comparingDouble(rank -> minSalary(byRate[rank])));
+                thresholds[g] = group.getKey();
+                minSalaries[g] = ranks.stream().mapToDouble(rank -> minSalary(byRate[rank])).toArray();
+                rateRanks[g] = ranks.stream().mapToInt(Integer::intValue).toArray();
+                g++;
+            }
+            return new TypeIndex(byRate, thresholds, minSalaries, rateRanks);
+        }
+
+        List<LoanProduct> eligible(double monthlyIncome, int cibilScore) {
+            // 1. Groups whose CIBIL bar is met, then the salary-qualified prefix of each
+            int groups = upperBound(cibilThresholds, cibilScore);
+            int[] ranks = new int[0];
+            int count = 0;
+            for (int g = 0; g < groups; g++) {
+                int qualified = upperBound(minSalaries[g], monthlyIncome);
+                if (qualified == 0) continue;
+                if (count + qualified > ranks.length) {
+                    ranks = Arrays.copyOf(ranks, Math.max(count + qualified, ranks.length * 2));
+                }
+                System.arraycopy(rateRanks[g], 0, ranks, count, qualified);
+                count += qualified;
+            }
+
+            // 2. Back to rate order (positions sort as ints)
+            Arrays.sort(ranks, 0, count);
+            List<LoanProduct> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(byRate[ranks[i]]);
+            }
+            return result;
+        }
+    }
+
+    // Number of values <= key
+    private static int upperBound(int[] values, int key) {
+        int low = 0, high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= key) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private static int upperBound(double[] values, double key) {
+        int low = 0, high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= key) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private static int minCibil(LoanProduct product) {
+        return product.getMinCibil() != null ? product.getMinCibil() : 0;
+    }
+
+    private static double minSalary(LoanProduct product) {
+        return product.getMinSalary() != null ? product.getMinSalary().doubleValue() : 0;
+    }
+}
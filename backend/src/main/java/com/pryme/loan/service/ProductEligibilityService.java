@@ -0,0 +1,76 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.dto.ProductEligibilityRequest;
+import com.pryme.loan.dto.ProductEligibilityResponse;
+import com.pryme.loan.dto.ProductOfferDto;
+import com.pryme.loan.utils.FinancialUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Eligibility against every real product instead of an assumed 8.5% / 20 years.
+ *
+ * One pass over the catalog snapshot's columns: per product, the sanctionable amount is
+ * min(EMI capacity / annuity factor, product max amount), subject to its min salary and CIBIL.
+ * Rows are already in rate order, so the pass stops as soon as it has {@code limit} offers.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductEligibilityService {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 200;
+
+    private final LoanCatalogService loanCatalogService;
+
+    public boolean isValid(ProductEligibilityRequest request) {
+        if (request.getMonthlyIncome() <= 0 || request.getExistingEmis() < 0 || request.getCibilScore() < 0) return false;
+        if (request.getFoir() != null && (request.getFoir().signum() <= 0 || request.getFoir().doubleValue() > 1)) return false;
+        if (request.getRequestedAmount() != null && request.getRequestedAmount().signum() <= 0) return false;
+        return request.getLimit() == null || (request.getLimit() > 0 && request.getLimit() <= MAX_LIMIT);
+    }
+
+    public ProductEligibilityResponse checkEligibility(ProductEligibilityRequest request) {
+        LoanCatalogSnapshot catalog = loanCatalogService.current();
+
+        // 1. EMI capacity (FOIR from the request, else from occupation)
+        double foir = request.getFoir() != null ? request.getFoir().doubleValue() : FinancialUtils.maxFoir(request.getOccupation());
+        double emiCapacity = request.getMonthlyIncome() * foir - request.getExistingEmis();
+        if (emiCapacity <= 0) {
+            return new ProductEligibilityResponse(0, catalog.size, List.of());
+        }
+
+        // 2. Scan in rate order until enough offers
+        int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_LIMIT;
+        double income = request.getMonthlyIncome();
+        int cibil = request.getCibilScore();
+        double requested = request.getRequestedAmount() != null ? request.getRequestedAmount().doubleValue() : 0;
+        String type = request.getProductType();
+
+        List<ProductOfferDto> offers = new ArrayList<>(Math.min(limit, catalog.size));
+        for (int i = 0; i < catalog.size && offers.size() < limit; i++) {
+            if (income < catalog.minSalaries[i] || cibil < catalog.minCibils[i]) continue;
+            if (type != null && !type.equalsIgnoreCase(catalog.types[i])) continue;
+
+            double factor = catalog.annuityFactors[i];
+            double sanction = Math.min(emiCapacity / factor, catalog.maxAmounts[i]);
+            if (sanction < 1 || sanction < requested) continue;
+
+            double principal = requested > 0 ? requested : sanction;
+            offers.add(new ProductOfferDto(
+                    catalog.productIds[i],
+                    catalog.bankNames[i],
+                    catalog.types[i],
+                    catalog.annualRates[i],
+                    catalog.tenureMonths[i],
+                    (long) Math.floor(sanction),
+                    Math.round(principal * factor)
+            ));
+        }
+
+        return new ProductEligibilityResponse(Math.round(emiCapacity), catalog.size, offers);
+    }
+}
@@ -1,25 +1,148 @@
 package com.pryme.loan.service;
 
+import com.pryme.loan.dto.PublicLoanPageResponse;
 import com.pryme.loan.dto.PublicLoanProductDto;
+import com.pryme.loan.dto.PublicLoanQuery;
+import com.pryme.loan.entity.Bank;
 import com.pryme.loan.entity.LoanProduct;
+import com.pryme.loan.repository.BankRepository;
 import com.pryme.loan.repository.LoanProductRepository;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
-import java.util.Arrays;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
+/**
+ * Public loan list, served from an immutable snapshot. The catalog changes a few times a
+ * day, so it is read (products and banks in one query) and mapped once, and dropped
+ * by {@link #invalidate()} on every admin bank/product write. The serialized bytes and ETag live
+ * in {@link JsonResponseCache}.
+ *
+ * Filtered requests skip the snapshot and read one page from the database instead, using the
+ * numeric term columns (and their composite indexes) with keyset pagination.
+ */
 @Service
 @RequiredArgsConstructor
 public class PublicLoanService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final BigDecimal MAX_RATE = BigDecimal.valueOf(100);                    // % a year
+    private static final BigDecimal MAX_AMOUNT = BigDecimal.valueOf(Long.MAX_VALUE / 100); // Still fits in paise
+
     private final LoanProductRepository loanProductRepository;
+    private final BankRepository bankRepository;
+
+    private volatile List<PublicLoanProductDto> snapshot;
 
     public List<PublicLoanProductDto> getAllLoanProducts() {
-        return loanProductRepository.findAll().stream()
+        List<PublicLoanProductDto> current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = build();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    public boolean isUnfiltered(PublicLoanQuery query) {
+        return query.getType() == null && query.getBank() == null && query.getMaxRate() == null
+                && query.getMinAmount() == null && query.getMinTenure() == null && query.getMaxTenure() == null
+                && query.getSort() == null && query.getCursor() == null && query.getLimit() == null;
+    }
+
+    public boolean isValid(PublicLoanQuery query) {
+        if (query.getMaxRate() != null && (query.getMaxRate().signum() <= 0 || query.getMaxRate().compareTo(MAX_RATE) > 0)) return false;
+        if (query.getMinAmount() != null && (query.getMinAmount().signum() < 0 || query.getMinAmount().compareTo(MAX_AMOUNT) > 0)) return false;
+        if (query.getMinTenure() != null && query.getMinTenure() <= 0) return false;
+        if (query.getMaxTenure() != null && query.getMaxTenure() <= 0) return false;
+        if (query.getMinTenure() != null && query.getMaxTenure() != null && query.getMinTenure() > query.getMaxTenure()) return false;
+        if (query.getLimit() != null && (query.getLimit() <= 0 || query.getLimit() > MAX_PAGE_SIZE)) return false;
+        CatalogSort sort = CatalogSort.of(query.getSort());
+        return sort != null && (query.getCursor() == null || Cursor.decode(query.getCursor(), sort) != null);
+    }
+
+    /**
+     * One page of the filtered catalog, cheapest first by the requested sort. Products whose sort
+     * term could not be read come last, by id. Each page is at most two indexed range reads
+     * (readable terms after the cursor, then unreadable ones), fetched with their bank.
+     */
+    public PublicLoanPageResponse searchLoans(PublicLoanQuery query) {
+        CatalogSort sort = CatalogSort.of(query.getSort());
+        Cursor cursor = query.getCursor() != null ? Cursor.decode(query.getCursor(), sort) : null;
+        int limit = query.getLimit() != null ? query.getLimit() : DEFAULT_PAGE_SIZE;
+
+        // 1. Bank names to ids (small table), so the product read stays on the bank_id indexes
+        List<Long> bankIds = null;
+        if (query.getBank() != null) {
+            bankIds = bankRepository.findByNameIgnoreCase(query.getBank().trim()).stream().map(Bank::getId).toList();
+            if (bankIds.isEmpty()) return new PublicLoanPageResponse(List.of(), null);
+        }
+        Specification<LoanProduct> filters = filters(query, bankIds);
+
+        // 2. Products with a readable sort term, after the cursor (one extra row tells us there is a next page)
+        List<LoanProduct> page = new ArrayList<>(limit + 1);
+        if (cursor == null || !cursor.unreadable()) {
+            Specification<LoanProduct> readable = filters
+                    .and((root, q, cb) -> cb.isNotNull(root.get(sort.keys[0])))
+                    .and(cursor != null ? after(sort, cursor) : null);
+            page.addAll(loanProductRepository.findBy(readable,
+                    q -> q.sortBy(Sort.by(sort.keys).and(Sort.by("id"))).limit(limit + 1).all()));
+        }
+
+        // 3. Then the unreadable ones by id
+        if (page.size() <= limit) {
+            Long afterId = cursor != null && cursor.unreadable() ? cursor.id() : null;
+            Specification<LoanProduct> unreadable = filters
+                    .and((root, q, cb) -> cb.isNull(root.get(sort.keys[0])))
+                    .and(afterId != null ? (root, q, cb) -> cb.greaterThan(root.get("id"), afterId) : null);
+            int remaining = limit + 1 - page.size();
+            page.addAll(loanProductRepository.findBy(unreadable,
+                    q -> q.sortBy(Sort.by("id")).limit(remaining).all()));
+        }
+
+        String nextCursor = null;
+        if (page.size() > limit) {
+            page = page.subList(0, limit);
+            nextCursor = Cursor.of(sort, page.get(limit - 1)).encode();
+        }
+        return new PublicLoanPageResponse(page.stream().map(this::mapToDto).toList(), nextCursor);
+    }
+
+    /**
+     * Drops the snapshot after the current transaction commits; the next reader rebuilds it.
+     */
+    public void invalidate() {
+        AfterCommit.run(this::clear);
+    }
+
+    // Synchronized with the rebuild, so a build that read the old rows cannot publish after this
+    private synchronized void clear() {
+        snapshot = null;
+    }
+
+    private List<PublicLoanProductDto> build() {
+        return loanProductRepository.findAllWithBank().stream()
                 .map(this::mapToDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
     }
 
     private PublicLoanProductDto mapToDto(LoanProduct product) {
@@ -29,7 +152,7 @@ public class PublicLoanService {
 
         // Split features string into list if stored as comma-separated
         List<String> features = product.getFeatures() != null
-                ? Arrays.asList(product.getFeatures().split(","))
+                ? List.of(product.getFeatures().split(","))
                 : List.of();
 
         return new PublicLoanProductDto(
@@ -44,4 +167,135 @@ public class PublicLoanService {
                 features
         );
     }
-}
\ No newline at end of file
+
+    private static Specification<LoanProduct> filters(PublicLoanQuery query, List<Long> bankIds) {
+        return (root, q, cb) -> {
+            if (q.getResultType() != Long.class) {
+                root.fetch("bank", JoinType.LEFT); // Needed for the DTO; not for counts
+            }
+            List<Predicate> predicates = new ArrayList<>();
+            if (query.getType() != null) {
+                predicates.add(cb.equal(root.get("type"), query.getType().trim()));
+            }
+            if (bankIds != null) {
+                predicates.add(root.get("bank").get("id").in(bankIds));
+            }
+            if (query.getMaxRate() != null) {
+                int maxRateBps = query.getMaxRate().movePointRight(2).setScale(0, RoundingMode.FLOOR).intValueExact();
+                predicates.add(cb.le(root.get("rateBps"), maxRateBps));
+            }
+            if (query.getMinAmount() != null) {
+                long minAmountPaise = query.getMinAmount().movePointRight(2).setScale(0, RoundingMode.CEILING).longValueExact();
+                predicates.add(cb.ge(root.get("maxAmountPaise"), minAmountPaise));
+            }
+            // Tenure ranges overlap
+            if (query.getMinTenure() != null) {
+                predicates.add(cb.ge(root.get("maxTenureMonths"), query.getMinTenure()));
+            }
+            if (query.getMaxTenure() != null) {
+                predicates.add(cb.le(root.get("minTenureMonths"), query.getMaxTenure()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    // Rows after the cursor in (keys..., id) order: k1 > a1, or k1 = a1 and k2 > a2, ..., or all equal and id > a_id
+    private static Specification<LoanProduct> after(CatalogSort sort, Cursor cursor) {
+        return (root, q, cb) -> {
+            List<Predicate> branches = new ArrayList<>();
+            List<Predicate> equalSoFar = new ArrayList<>();
+            for (int i = 0; i <= sort.keys.length; i++) {
+                Path<Long> key = i < sort.keys.length ? root.get(sort.keys[i]) : root.get("id");
+                long value = i < sort.keys.length ? cursor.keys()[i] : cursor.id();
+                List<Predicate> branch = new ArrayList<>(equalSoFar);
+                branch.add(greaterThan(cb, key, value));
+                branches.add(cb.and(branch.toArray(new Predicate[0])));
+                equalSoFar.add(cb.equal(key, keyValue(key, value)));
+            }
+            return cb.or(branches.toArray(new Predicate[0]));
+        };
+    }
+
+    // Binds the value as the column's own type (Integer or Long) so the comparison stays on the index
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate greaterThan(CriteriaBuilder cb, Path<Long> key, long value) {
+        return cb.greaterThan((Path) key, (Comparable) keyValue(key, value));
+    }
+
+    private static Object keyValue(Path<?> key, long value) {
+        if (key.getJavaType() != Integer.class) return value;
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value)); // Only a forged cursor is out of range
+    }
+
+    private enum CatalogSort {
+        RATE("rateBps"),
+        FEE("feeBps", "feeFlatPaise"); // Percentage first, then the flat part
+
+        final String[] keys;
+
+        CatalogSort(String... keys) {
+            this.keys = keys;
+        }
+
+        static CatalogSort of(String name) {
+            if (name == null) return RATE;
+            for (CatalogSort sort : values()) {
+                if (sort.name().equalsIgnoreCase(name.trim())) return sort;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Position after the last row of a page: its sort keys and id, or just its id when it came
+     * from the unreadable tail. Opaque to clients (base64url of "sort|key...|id").
+     */
+    private record Cursor(CatalogSort sort, long[] keys, long id) {
+
+        boolean unreadable() {
+            return keys == null;
+        }
+
+        static Cursor of(CatalogSort sort, LoanProduct last) {
+            long[] keys = new long[sort.keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                Number key = switch (sort.keys[i]) {
+                    case "rateBps" -> last.getRateBps();
+                    case "feeBps" -> last.getFeeBps();
+                    case "feeFlatPaise" -> last.getFeeFlatPaise();
+                    default -> throw new IllegalStateException("Unknown sort key " + sort.keys[i]);
+                };
+                if (key == null) return new Cursor(sort, null, last.getId());
+                keys[i] = key.longValue();
+            }
+            return new Cursor(sort, keys, last.getId());
+        }
+
+        String encode() {
+            StringBuilder text = new StringBuilder(sort.name().toLowerCase(Locale.ROOT));
+            if (keys == null) {
+                text.append('|');
+            } else {
+                for (long key : keys) text.append('|').append(key);
+            }
+            text.append('|').append(id);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(text.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        // null when malformed or from another sort
+        static Cursor decode(String cursor, CatalogSort sort) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+                if (CatalogSort.of(parts[0]) != sort) return null;
+                long id = Long.parseLong(parts[parts.length - 1]);
+                if (parts.length == 3 && parts[1].isEmpty()) return new Cursor(sort, null, id);
+                if (parts.length != sort.keys.length + 2) return null;
+                long[] keys = new long[sort.keys.length];
+                for (int i = 0; i < keys.length; i++) keys[i] = Long.parseLong(parts[i + 1]);
+                return new Cursor(sort, keys, id);
+            } catch (IllegalArgumentException e) { // Bad base64 or number
+                return null;
+            }
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.util.List;
 public class ReviewService {
 
     private final ReviewRepository reviewRepository;
+    private final JsonResponseCache jsonResponseCache;
 
     public List<Review> getFeaturedReviews() {
         return reviewRepository.findByIsFeaturedTrue();
@@ -29,11 +30,14 @@ public class ReviewService {
         review.setRating(request.getRating());
         review.setComment(request.getComment());
         review.setFeatured(request.isFeatured());
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        jsonResponseCache.invalidate(JsonResponseCache.REVIEWS);
+        return saved;
     }
 
     public void deleteReview(Long id) {
         reviewRepository.deleteById(id);
+        jsonResponseCache.invalidate(JsonResponseCache.REVIEWS);
     }
 
     public Review updateReview(Long id, ReviewRequest request) {
@@ -46,6 +50,8 @@ public class ReviewService {
         review.setComment(request.getComment());
         review.setFeatured(request.isFeatured());
 
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        jsonResponseCache.invalidate(JsonResponseCache.REVIEWS);
+        return saved;
     }
 }
\ No newline at end of file
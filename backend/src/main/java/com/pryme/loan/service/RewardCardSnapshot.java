@@ -0,0 +1,68 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.entity.CreditCardReward;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable, column-per-field copy of the reward card table. Rows never change once published;
+ * a write produces a new snapshot (see {@link #withCard}).
+ */
+public final class RewardCardSnapshot {
+
+    final int size;
+    final Long[] ids;
+    final String[] cardNames;
+    final double[] diningMultipliers;
+    final double[] travelMultipliers;
+    final double[] otherMultipliers;
+    final double[] pointValues;
+
+    private RewardCardSnapshot(int size) {
+        this.size = size;
+        this.ids = new Long[size];
+        this.cardNames = new String[size];
+        this.diningMultipliers = new double[size];
+        this.travelMultipliers = new double[size];
+        this.otherMultipliers = new double[size];
+        this.pointValues = new double[size];
+    }
+
+    public static RewardCardSnapshot of(List<CreditCardReward> cards) {
+        RewardCardSnapshot snapshot = new RewardCardSnapshot(cards.size());
+        for (int i = 0; i < snapshot.size; i++) {
+            snapshot.set(i, cards.get(i));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Copy with the card added, or replaced if a row with its id already exists.
+     */
+    public RewardCardSnapshot withCard(CreditCardReward card) {
+        int row = card.getId() != null ? Arrays.asList(ids).indexOf(card.getId()) : -1;
+        RewardCardSnapshot copy = new RewardCardSnapshot(row >= 0 ? size : size + 1);
+        System.arraycopy(ids, 0, copy.ids, 0, size);
+        System.arraycopy(cardNames, 0, copy.cardNames, 0, size);
+        System.arraycopy(diningMultipliers, 0, copy.diningMultipliers, 0, size);
+        System.arraycopy(travelMultipliers, 0, copy.travelMultipliers, 0, size);
+        System.arraycopy(otherMultipliers, 0, copy.otherMultipliers, 0, size);
+        System.arraycopy(pointValues, 0, copy.pointValues, 0, size);
+        copy.set(row >= 0 ? row : size, card);
+        return copy;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void set(int row, CreditCardReward card) {
+        ids[row] = card.getId();
+        cardNames[row] = card.getCardName();
+        diningMultipliers[row] = card.getDiningMultiplier();
+        travelMultipliers[row] = card.getTravelMultiplier();
+        otherMultipliers[row] = card.getOtherMultiplier();
+        pointValues[row] = card.getPointValue();
+    }
+}
@@ -0,0 +1,383 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.config.ComputeConfig;
+import com.pryme.loan.dto.CardAllocationDto;
+import com.pryme.loan.dto.RewardPortfolioDto;
+import com.pryme.loan.dto.RewardPortfolioRequest;
+import com.pryme.loan.dto.RewardPortfolioResponse;
+import com.pryme.loan.utils.TopKHeap;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
+
+/**
+ * Best sets of up to 3 cards for a spend profile, with the spend routed between them.
+ *
+ * Spend in each category goes to the card paying the most per rupee; with caps, the highest
+ * (card, category) rates are filled first until a card's annual reward cap is used up.
+ * Search = depth-first over card combinations, split by first card across the calculator pool:
+ *  - without caps, a card beaten or matched on every rate and the fee by another is dropped up front
+ *    (with caps it still adds headroom, so every card stays in)
+ *  - a branch is cut when it cannot beat the worst portfolio kept, using the smaller of
+ *    (a) the best rates of everything still addable with no caps, minus the fees already committed
+ *    (b) today's value plus, per card still to add, the most any remaining card can earn net of its fee
+ *  - a combination holding a card that adds nothing is not reported (the smaller set is)
+ */
+@Service
+public class RewardPortfolioService {
+
+    static final int CATEGORIES = 3; // dining, travel, other
+    public static final int MAX_CARDS = 3;
+    private static final int DEFAULT_CARDS = 2;
+    private static final int DEFAULT_LIMIT = 5;
+    private static final int MAX_LIMIT = 20;
+    static final int MAX_CANDIDATES = 1 << 16;      // encode() keeps each card index in 16 bits
+    static final double MAX_ANNUAL_FEE = 10_00_000; // Rs, far above any real card
+
+    private final RewardService rewardService;
+    private final ForkJoinPool pool;
+
+    public RewardPortfolioService(RewardService rewardService,
+                                  @Qualifier(ComputeConfig.CALCULATOR_POOL) ForkJoinPool pool) {
+        this.rewardService = rewardService;
+        this.pool = pool;
+    }
+
+    public boolean isValid(RewardPortfolioRequest request) {
+        double maxAmount = CalculatorLimits.MAX_AMOUNT.doubleValue();
+        if (!isWithin(request.getAnnualDiningSpend(), maxAmount) || !isWithin(request.getAnnualTravelSpend(), maxAmount)
+                || !isWithin(request.getAnnualOtherSpend(), maxAmount)) return false;
+        if (request.getMaxCards() != null && (request.getMaxCards() < 1 || request.getMaxCards() > MAX_CARDS)) return false;
+        if (request.getLimit() != null && (request.getLimit() <= 0 || request.getLimit() > MAX_LIMIT)) return false;
+        if (!allWithin(request.getAnnualFees(), MAX_ANNUAL_FEE) || !allWithin(request.getRewardCaps(), maxAmount)) return false;
+        // More cards than the 16-bit indexes can address would silently alias in encode()
+        return rewardService.currentSnapshot().size() <= MAX_CANDIDATES;
+    }
+
+    // Also rejects NaN
+    private static boolean isWithin(double value, double max) {
+        return value >= 0 && value <= max;
+    }
+
+    private static boolean allWithin(Map<Long, Double> values, double max) {
+        if (values == null) return true;
+        for (Map.Entry<Long, Double> entry : values.entrySet()) {
+            if (entry.getKey() == null || entry.getValue() == null || !isWithin(entry.getValue(), max)) return false;
+        }
+        return true;
+    }
+
+    public RewardPortfolioResponse optimize(RewardPortfolioRequest request) {
+        RewardCardSnapshot cards = rewardService.currentSnapshot();
+        double[] spend = {request.getAnnualDiningSpend(), request.getAnnualTravelSpend(), request.getAnnualOtherSpend()};
+        int maxCards = request.getMaxCards() != null ? request.getMaxCards() : DEFAULT_CARDS;
+        int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_LIMIT;
+
+        // 1. Candidate cards as rate columns, best standalone value first
+        Candidates candidates = Candidates.of(cards, request, spend);
+        if (candidates.size == 0) {
+            return new RewardPortfolioResponse(0, 0, List.of());
+        }
+
+        // 2. Parallel branch and bound, one subtree per first card
+        SearchResult result = pool.invoke(new SearchTask(candidates, spend, maxCards, limit, 0, candidates.size));
+
+        // 3. Re-run the allocation for the winners only
+        List<RewardPortfolioDto> portfolios = new ArrayList<>();
+        for (long id : result.top.drainDescending()) {
+            portfolios.add(describe(candidates, cards, spend, decode(id)));
+        }
+        return new RewardPortfolioResponse(candidates.size, result.evaluated, portfolios);
+    }
+
+    private static RewardPortfolioDto describe(Candidates candidates, RewardCardSnapshot cards, double[] spend, int[] combo) {
+        double[][] allocation = new double[combo.length][CATEGORIES];
+        double net = candidates.allocate(combo, combo.length, spend, allocation);
+
+        List<CardAllocationDto> allocations = new ArrayList<>(combo.length);
+        double rewards = 0;
+        double fees = 0;
+        for (int k = 0; k < combo.length; k++) {
+            int c = combo[k];
+            int row = candidates.rows[c];
+            double earned = 0;
+            for (int cat = 0; cat < CATEGORIES; cat++) {
+                earned += allocation[k][cat] * candidates.rates[cat][c];
+            }
+            rewards += earned;
+            fees += candidates.fees[c];
+            allocations.add(new CardAllocationDto(cards.ids[row], cards.cardNames[row],
+                    Math.round(allocation[k][0]), Math.round(allocation[k][1]), Math.round(allocation[k][2]),
+                    Math.round(earned), Math.round(candidates.fees[c])));
+        }
+        return new RewardPortfolioDto(allocations, Math.round(rewards), Math.round(fees), Math.round(net));
+    }
+
+    // Combination packed as size + up to three 16-bit candidate indexes (so at most MAX_CANDIDATES cards)
+    static long encode(int[] combo, int size) {
+        long id = (long) size << 48;
+        for (int k = 0; k < size; k++) {
+            id |= (long) combo[k] << (16 * (2 - k));
+        }
+        return id;
+    }
+
+    static int[] decode(long id) {
+        int size = (int) (id >>> 48);
+        int[] combo = new int[size];
+        for (int k = 0; k < size; k++) {
+            combo[k] = (int) ((id >>> (16 * (2 - k))) & 0xFFFF);
+        }
+        return combo;
+    }
+
+    /**
+     * Cards that can appear in a best portfolio, as columns: value per rupee in each category,
+     * fee and cap. suffixBest[cat][i] = best rate among candidates i.. (for the search bound).
+     */
+    static final class Candidates {
+        final int size;
+        final int[] rows;          // Row in the card snapshot
+        final double[][] rates;    // [category][candidate], rupees back per rupee spent
+        final double[] fees;
+        final double[] caps;       // +Infinity when uncapped
+        final boolean capped;
+        final double[][] suffixBest;
+        final double[] suffixGain; // Most any candidate i.. can add on its own (capped earnings - fee)
+
+        private Candidates(int[] rows, double[][] rates, double[] fees, double[] caps, boolean capped, double[] spend) {
+            this.size = rows.length;
+            this.rows = rows;
+            this.rates = rates;
+            this.fees = fees;
+            this.caps = caps;
+            this.capped = capped;
+            this.suffixBest = new double[CATEGORIES][size + 1];
+            for (int cat = 0; cat < CATEGORIES; cat++) {
+                for (int i = size - 1; i >= 0; i--) {
+                    suffixBest[cat][i] = Math.max(suffixBest[cat][i + 1], rates[cat][i]);
+                }
+            }
+            this.suffixGain = new double[size + 1];
+            suffixGain[size] = Double.NEGATIVE_INFINITY;
+            for (int i = size - 1; i >= 0; i--) {
+                suffixGain[i] = Math.max(suffixGain[i + 1], standalone(rates, fees, caps, spend, i));
+            }
+        }
+
+        static Candidates of(RewardCardSnapshot cards, RewardPortfolioRequest request, double[] spend) {
+            int n = cards.size;
+            Map<Long, Double> feeOverrides = request.getAnnualFees() != null ? request.getAnnualFees() : Map.of();
+            Map<Long, Double> capOverrides = request.getRewardCaps() != null ? request.getRewardCaps() : Map.of();
+            boolean capped = !capOverrides.isEmpty();
+
+            double[][] rates = new double[CATEGORIES][n];
+            double[] fees = new double[n];
+            double[] caps = new double[n];
+            for (int i = 0; i < n; i++) {
+                rates[0][i] = cards.diningMultipliers[i] * cards.pointValues[i];
+                rates[1][i] = cards.travelMultipliers[i] * cards.pointValues[i];
+                rates[2][i] = cards.otherMultipliers[i] * cards.pointValues[i];
+                fees[i] = feeOverrides.getOrDefault(cards.ids[i], 0.0);
+                caps[i] = capOverrides.getOrDefault(cards.ids[i], Double.POSITIVE_INFINITY);
+            }
+
+            // Without caps a dominated card never helps: its twin earns at least as much for no more fee
+            IntStream kept = IntStream.range(0, n);
+            if (!capped) {
+                kept = kept.filter(i -> IntStream.range(0, n).noneMatch(j -> j != i && dominates(rates, fees, j, i)));
+            }
+            int[] order = kept.boxed()
+                    .sorted((a, b) -> Double.compare(standalone(rates, fees, caps, spend, b), standalone(rates, fees, caps, spend, a)))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+
+            double[][] sortedRates = new double[CATEGORIES][order.length];
+            double[] sortedFees = new double[order.length];
+            double[] sortedCaps = new double[order.length];
+            for (int k = 0; k < order.length; k++) {
+                for (int cat = 0; cat < CATEGORIES; cat++) {
+                    sortedRates[cat][k] = rates[cat][order[k]];
+                }
+                sortedFees[k] = fees[order[k]];
+                sortedCaps[k] = caps[order[k]];
+            }
+            return new Candidates(order, sortedRates, sortedFees, sortedCaps, capped, spend);
+        }
+
+        // j is at least as good as i everywhere (ties broken by index so exactly one of two twins survives)
+        private static boolean dominates(double[][] rates, double[] fees, int j, int i) {
+            boolean strictlyBetter = fees[j] < fees[i];
+            for (int cat = 0; cat < CATEGORIES; cat++) {
+                if (rates[cat][j] < rates[cat][i]) return false;
+                if (rates[cat][j] > rates[cat][i]) strictlyBetter = true;
+            }
+            return fees[j] <= fees[i] && (strictlyBetter || j < i);
+        }
+
+        private static double standalone(double[][] rates, double[] fees, double[] caps, double[] spend, int i) {
+            double earned = spend[0] * rates[0][i] + spend[1] * rates[1][i] + spend[2] * rates[2][i];
+            return Math.min(earned, caps[i]) - fees[i];
+        }
+
+        /**
+         * Routes the spend across the combo and returns rewards - fees.
+         * @param allocation optional [card][category] spend, may be null
+         */
+        double allocate(int[] combo, int size, double[] spend, double[][] allocation) {
+            double value = 0;
+            for (int k = 0; k < size; k++) {
+                value -= fees[combo[k]];
+            }
+
+            if (!capped) {
+                // Each category simply goes to its best card
+                for (int cat = 0; cat < CATEGORIES; cat++) {
+                    int best = 0;
+                    for (int k = 1; k < size; k++) {
+                        if (rates[cat][combo[k]] > rates[cat][combo[best]]) best = k;
+                    }
+                    value += spend[cat] * rates[cat][combo[best]];
+                    if (allocation != null) allocation[best][cat] = spend[cat];
+                }
+                return value;
+            }
+
+            // Highest (card, category) rate first until the card's cap runs out
+            int pairs = size * CATEGORIES;
+            double[] pairRates = new double[pairs];
+            int[] pairIds = new int[pairs];
+            for (int p = 0; p < pairs; p++) {
+                pairRates[p] = rates[p % CATEGORIES][combo[p / CATEGORIES]];
+                pairIds[p] = p;
+                for (int q = p; q > 0 && pairRates[q] > pairRates[q - 1]; q--) {
+                    double rate = pairRates[q];
+                    pairRates[q] = pairRates[q - 1];
+                    pairRates[q - 1] = rate;
+                    int id = pairIds[q];
+                    pairIds[q] = pairIds[q - 1];
+                    pairIds[q - 1] = id;
+                }
+            }
+
+            double[] spendLeft = spend.clone();
+            double[] capLeft = new double[size];
+            for (int k = 0; k < size; k++) {
+                capLeft[k] = caps[combo[k]];
+            }
+            for (int p = 0; p < pairs; p++) {
+                double rate = pairRates[p];
+                int k = pairIds[p] / CATEGORIES;
+                int cat = pairIds[p] % CATEGORIES;
+                if (spendLeft[cat] <= 0) continue;
+
+                double routed = rate > 0 ? Math.min(spendLeft[cat], capLeft[k] / rate) : spendLeft[cat];
+                if (routed <= 0) continue;
+                value += routed * rate;
+                capLeft[k] -= routed * rate;
+                spendLeft[cat] -= routed;
+                if (allocation != null) allocation[k][cat] += routed;
+            }
+            // Anything left earns nothing anywhere; park it on the first card
+            if (allocation != null) {
+                for (int cat = 0; cat < CATEGORIES; cat++) {
+                    allocation[0][cat] += spendLeft[cat];
+                }
+            }
+            return value;
+        }
+    }
+
+    private record SearchResult(TopKHeap top, long evaluated) {}
+
+    private static class SearchTask extends RecursiveTask<SearchResult> {
+        private static final int LEAF_FIRST_CARDS = 4;
+
+        private final Candidates candidates;
+        private final double[] spend;
+        private final int maxCards;
+        private final int limit;
+        private final int from;
+        private final int to;
+
+        private TopKHeap top;
+        private long evaluated;
+
+        SearchTask(Candidates candidates, double[] spend, int maxCards, int limit, int from, int to) {
+            this.candidates = candidates;
+            this.spend = spend;
+            this.maxCards = maxCards;
+            this.limit = limit;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SearchResult compute() {
+            if (to - from > LEAF_FIRST_CARDS) {
+                int mid = (from + to) >>> 1;
+                SearchTask right = new SearchTask(candidates, spend, maxCards, limit, mid, to);
+                right.fork();
+                SearchResult left = new SearchTask(candidates, spend, maxCards, limit, from, mid).compute();
+                SearchResult other = right.join();
+                return new SearchResult(left.top.merge(other.top), left.evaluated + other.evaluated);
+            }
+
+            top = new TopKHeap(limit);
+            int[] combo = new int[MAX_CARDS];
+            for (int first = from; first < to; first++) {
+                combo[0] = first;
+                visit(combo, 1, candidates.fees[first],
+                        new double[]{candidates.rates[0][first], candidates.rates[1][first], candidates.rates[2][first]});
+            }
+            return new SearchResult(top, evaluated);
+        }
+
+        // combo[0..size) is fixed; score it, then try extending it with later candidates
+        private void visit(int[] combo, int size, double fees, double[] bestRates) {
+            evaluated++;
+            double value = candidates.allocate(combo, size, spend, null);
+            if (value > top.threshold() && everyCardCounts(combo, size, value)) {
+                top.offer(value, encode(combo, size));
+            }
+            if (size == maxCards) return;
+
+            for (int next = combo[size - 1] + 1; next < candidates.size; next++) {
+                // (a) uncapped best rates over this combo and everything from `next` on
+                double bound = -fees;
+                for (int cat = 0; cat < CATEGORIES; cat++) {
+                    bound += spend[cat] * Math.max(bestRates[cat], candidates.suffixBest[cat][next]);
+                }
+                // (b) each card still to add earns at most its own capped standalone value
+                bound = Math.min(bound, value + (maxCards - size) * Math.max(0, candidates.suffixGain[next]));
+                if (bound <= top.threshold()) return; // Both only shrink as `next` grows
+
+                combo[size] = next;
+                double[] extended = new double[CATEGORIES];
+                for (int cat = 0; cat < CATEGORIES; cat++) {
+                    extended[cat] = Math.max(bestRates[cat], candidates.rates[cat][next]);
+                }
+                visit(combo, size + 1, fees + candidates.fees[next], extended);
+            }
+        }
+
+        // Dropping any one card must lose value, else the smaller set is the better answer
+        private boolean everyCardCounts(int[] combo, int size, double value) {
+            int[] without = new int[size - 1];
+            for (int skip = 0; skip < size; skip++) {
+                for (int k = 0, w = 0; k < size; k++) {
+                    if (k != skip) without[w++] = combo[k];
+                }
+                if (size > 1 && candidates.allocate(without, size - 1, spend, null) >= value) return false;
+            }
+            return true;
+        }
+    }
+}
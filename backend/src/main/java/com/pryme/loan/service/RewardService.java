@@ -4,11 +4,14 @@ import com.pryme.loan.dto.RewardCalculationRequest;
 import com.pryme.loan.dto.RewardCalculationResponse;
 import com.pryme.loan.entity.CreditCardReward;
 import com.pryme.loan.repository.CreditCardRewardRepository;
+import com.pryme.loan.utils.TopKHeap;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -16,9 +19,21 @@ public class RewardService {
 
     private final CreditCardRewardRepository rewardRepository;
 
+    // Cards served to the public calculator; loaded once, then replaced (never mutated) on every write
+    private volatile RewardCardSnapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSnapshot() {
+        initSnapshot();
+    }
+
     // --- Admin: Configure Cards ---
     public CreditCardReward addCard(CreditCardReward card) {
-        return rewardRepository.save(card);
+        CreditCardReward saved = rewardRepository.save(card);
+        synchronized (this) {
+            snapshot = currentSnapshot().withCard(saved);
+        }
+        return saved;
     }
 
     public List<CreditCardReward> getAllCards() {
@@ -27,24 +42,46 @@ public class RewardService {
 
     // --- Public: Calculate Logic ---
     public List<RewardCalculationResponse> calculateBestRewards(RewardCalculationRequest request) {
-        List<CreditCardReward> allCards = rewardRepository.findAll();
+        RewardCardSnapshot cards = currentSnapshot();
+        double dining = request.getAnnualDiningSpend();
+        double travel = request.getAnnualTravelSpend();
+        double other = request.getAnnualOtherSpend();
+        int limit = request.getLimit() != null ? Math.max(0, Math.min(request.getLimit(), cards.size)) : cards.size;
 
-        return allCards.stream().map(card -> {
-            // 1. Calculate Points earned per category
-            double diningPoints = request.getAnnualDiningSpend() * card.getDiningMultiplier();
-            double travelPoints = request.getAnnualTravelSpend() * card.getTravelMultiplier();
-            double otherPoints = request.getAnnualOtherSpend() * card.getOtherMultiplier();
+        // 1. Points and cash value per card, straight off the columns; keep the best `limit`
+        double[] totalPoints = new double[cards.size];
+        double[] totalSavings = new double[cards.size];
+        TopKHeap best = new TopKHeap(limit);
+        for (int i = 0; i < cards.size; i++) {
+            totalPoints[i] = dining * cards.diningMultipliers[i]
+                    + travel * cards.travelMultipliers[i]
+                    + other * cards.otherMultipliers[i];
+            totalSavings[i] = totalPoints[i] * cards.pointValues[i];
+            best.offer(totalSavings[i], i);
+        }
 
-            double totalPoints = diningPoints + travelPoints + otherPoints;
+        // 2. Highest savings first
+        List<RewardCalculationResponse> ranked = new ArrayList<>(limit);
+        for (long row : best.drainDescending()) {
+            int i = (int) row;
+            ranked.add(new RewardCalculationResponse(
+                    cards.cardNames[i],
+                    Math.round(totalPoints[i]),
+                    Math.round(totalSavings[i])
+            ));
+        }
+        return ranked;
+    }
 
-            // 2. Convert Points to Cash Value
-            double totalSavings = totalPoints * card.getPointValue();
+    public RewardCardSnapshot currentSnapshot() {
+        RewardCardSnapshot current = snapshot;
+        return current != null ? current : initSnapshot();
+    }
 
-            return new RewardCalculationResponse(
-                    card.getCardName(),
-                    Math.round(totalPoints),
-                    Math.round(totalSavings)
-            );
-        }).collect(Collectors.toList());
+    private synchronized RewardCardSnapshot initSnapshot() {
+        if (snapshot == null) {
+            snapshot = RewardCardSnapshot.of(rewardRepository.findAll());
+        }
+        return snapshot;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,125 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.dto.SensitivityGridRequest;
+import com.pryme.loan.dto.SensitivityGridResponse;
+import com.pryme.loan.utils.FinancialUtils;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * EMI / eligibility heatmap over a rate x tenure grid.
+ *
+ * Each rate row is filled in one pass over the months: (1+r)^n is carried forward by one
+ * multiplication per month and read off whenever n hits a tenure column, so the whole grid
+ * costs rates x maxMonths multiplications and no Math.pow.
+ */
+@Service
+public class SensitivityGridService {
+
+    public static final int MAX_CELLS = 5_000;
+
+    private static final BigDecimal DEFAULT_MIN_RATE = new BigDecimal("7");
+    private static final BigDecimal DEFAULT_MAX_RATE = new BigDecimal("12");
+    private static final BigDecimal DEFAULT_RATE_STEP = new BigDecimal("0.25");
+    private static final int DEFAULT_MIN_TENURE = 5;
+    private static final int DEFAULT_MAX_TENURE = 30;
+    private static final int MAX_TENURE_YEARS = 40;
+    private static final BigDecimal MAX_RATE = BigDecimal.valueOf(100);
+    private static final BigDecimal MIN_RATE_STEP = new BigDecimal("0.01"); // 1 bp
+
+    public boolean isValid(SensitivityGridRequest request) {
+        if (request.getLoanAmount() == null && request.getMonthlyIncome() == null) return false;
+        if (request.getLoanAmount() != null && request.getLoanAmount().signum() <= 0) return false;
+
+        BigDecimal minRate = orDefault(request.getMinRate(), DEFAULT_MIN_RATE);
+        BigDecimal maxRate = orDefault(request.getMaxRate(), DEFAULT_MAX_RATE);
+        BigDecimal rateStep = orDefault(request.getRateStep(), DEFAULT_RATE_STEP);
+        int minTenure = orDefault(request.getMinTenureYears(), DEFAULT_MIN_TENURE);
+        int maxTenure = orDefault(request.getMaxTenureYears(), DEFAULT_MAX_TENURE);
+        int tenureStep = orDefault(request.getTenureStepYears(), 1);
+
+        if (minRate.signum() < 0 || maxRate.compareTo(minRate) < 0 || maxRate.compareTo(MAX_RATE) > 0) return false;
+        if (rateStep.compareTo(MIN_RATE_STEP) < 0) return false;
+        if (minTenure <= 0 || maxTenure < minTenure || maxTenure > MAX_TENURE_YEARS || tenureStep <= 0) return false;
+
+        // Counted in BigDecimal so an oversized axis is a 400, not an overflow
+        BigDecimal rateCount = maxRate.subtract(minRate).divide(rateStep, 0, RoundingMode.FLOOR).add(BigDecimal.ONE);
+        BigDecimal cells = rateCount.multiply(BigDecimal.valueOf(axisSize(minTenure, maxTenure, tenureStep)));
+        return cells.compareTo(BigDecimal.valueOf(MAX_CELLS)) <= 0;
+    }
+
+    public SensitivityGridResponse calculate(SensitivityGridRequest request) {
+        // 1. Axes
+        double[] rates = rateAxis(
+                orDefault(request.getMinRate(), DEFAULT_MIN_RATE),
+                orDefault(request.getMaxRate(), DEFAULT_MAX_RATE),
+                orDefault(request.getRateStep(), DEFAULT_RATE_STEP));
+        int[] tenures = tenureAxis(
+                orDefault(request.getMinTenureYears(), DEFAULT_MIN_TENURE),
+                orDefault(request.getMaxTenureYears(), DEFAULT_MAX_TENURE),
+                orDefault(request.getTenureStepYears(), 1));
+
+        // 2. What to fill (EMI needs a loan amount, eligibility needs an income)
+        double principal = request.getLoanAmount() != null ? request.getLoanAmount().doubleValue() : 0;
+        double emiCapacity = 0;
+        if (request.getMonthlyIncome() != null) {
+            double existingEmis = request.getExistingEmis() != null ? request.getExistingEmis() : 0;
+            emiCapacity = Math.max(0, request.getMonthlyIncome() * FinancialUtils.maxFoir(request.getOccupation()) - existingEmis);
+        }
+        long[] emi = request.getLoanAmount() != null ? new long[rates.length * tenures.length] : null;
+        long[] maxLoan = request.getMonthlyIncome() != null ? new long[rates.length * tenures.length] : null;
+
+        // 3. One pass per rate row
+        int maxMonths = tenures[tenures.length - 1] * 12;
+        for (int i = 0; i < rates.length; i++) {
+            double r = rates[i] / 1200;
+            double growth = 1; // (1+r)^n
+            int cell = i * tenures.length;
+            int column = 0;
+
+            for (int n = 1; n <= maxMonths; n++) {
+                growth *= 1 + r;
+                if (n != tenures[column] * 12) continue;
+
+                // EMI per rupee borrowed: r(1+r)^n / ((1+r)^n - 1), or 1/n at a zero rate
+                double factor = r == 0 ? 1.0 / n : r * growth / (growth - 1);
+                if (emi != null) emi[cell + column] = Math.round(principal * factor);
+                if (maxLoan != null) maxLoan[cell + column] = Math.round(emiCapacity / factor);
+                column++;
+            }
+        }
+
+        return new SensitivityGridResponse(rates, tenures, emi, maxLoan, Math.round(emiCapacity));
+    }
+
+    // Built from BigDecimal steps so 0.25 increments don't drift
+    private static double[] rateAxis(BigDecimal min, BigDecimal max, BigDecimal step) {
+        double[] axis = new double[axisSize(min, max, step)];
+        for (int i = 0; i < axis.length; i++) {
+            axis[i] = min.add(step.multiply(BigDecimal.valueOf(i))).doubleValue();
+        }
+        return axis;
+    }
+
+    private static int[] tenureAxis(int min, int max, int step) {
+        int[] axis = new int[axisSize(min, max, step)];
+        for (int i = 0; i < axis.length; i++) {
+            axis[i] = min + i * step;
+        }
+        return axis;
+    }
+
+    private static int axisSize(BigDecimal min, BigDecimal max, BigDecimal step) {
+        return max.subtract(min).divide(step, 0, RoundingMode.FLOOR).intValueExact() + 1;
+    }
+
+    private static int axisSize(int min, int max, int step) {
+        return (max - min) / step + 1;
+    }
+
+    private static <T> T orDefault(T value, T fallback) {
+        return value != null ? value : fallback;
+    }
+}
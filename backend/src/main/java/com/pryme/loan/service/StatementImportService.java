@@ -0,0 +1,409 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.dto.RewardCalculationRequest;
+import com.pryme.loan.dto.StatementRewardResponse;
+import com.pryme.loan.utils.KeywordMatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Turns an uploaded card statement into the annual dining / travel / other spend the reward
+ * calculator takes. The file is read one line at a time (never held in memory) and each
+ * purchase is classified by merchant keywords through a single {@link KeywordMatcher} pass.
+ *
+ * Formats:
+ *  - CSV (also ; tab or | separated) with a header row naming a description column and a
+ *    debit or amount column; bank preamble lines above the header are skipped.
+ *    Amounts marked Cr, or flagged credit in a type column, are payments/refunds and are left out.
+ *    With a plain signed amount column, whichever sign most rows carry is taken as purchases.
+ *  - OFX / QFX: DEBIT and POS transactions, classified on NAME + MEMO.
+ */
+@Service
+@RequiredArgsConstructor
+public class StatementImportService {
+
+    public static final int MAX_MONTHS = 24;
+
+    static final int DINING = 0;
+    static final int TRAVEL = 1;
+    static final int OTHER = 2;
+
+    private static final int HEADER_SCAN_LINES = 50;
+
+    // Longest keyword wins, so "uber eats" beats "uber" and "swiggy instamart" beats "swiggy".
+    // Keywords match whole words only, so plurals are listed.
+    private static final KeywordMatcher MERCHANTS = new KeywordMatcher(keywords(
+            DINING, List.of("swiggy", "zomato", "eatsure", "uber eats", "dominos", "domino's", "pizza hut",
+                    "mcdonald", "mcdonalds", "mcdonald's", "kfc", "burger king", "starbucks", "cafe coffee day",
+                    "subway", "haldiram", "haldirams", "barbeque nation", "chaayos", "faasos", "box8", "behrouz",
+                    "restaurant", "restaurants", "restro", "cafe", "bakery", "dhaba", "biryani", "kitchen", "dining",
+                    "eatery", "brewery", "pub"),
+            TRAVEL, List.of("makemytrip", "goibibo", "cleartrip", "yatra", "easemytrip", "ixigo", "irctc",
+                    "indigo", "air india", "vistara", "spicejet", "akasa", "airasia", "emirates", "lufthansa",
+                    "airline", "airlines", "airport", "uber", "ola", "rapido", "redbus", "abhibus", "hotel", "hotels",
+                    "oyo", "airbnb", "booking.com", "agoda", "marriott", "hyatt", "railway", "railways", "metro",
+                    "fastag"),
+            OTHER, List.of("swiggy instamart", "zomato hyperpure", "ola electric", "metro cash")
+    ));
+
+    private final RewardService rewardService;
+
+    /**
+     * @param months how many months the statement covers; totals are scaled to a year
+     * @throws IllegalArgumentException if no CSV header or OFX transactions can be found
+     */
+    public StatementRewardResponse importStatement(InputStream in, int months, Integer limit) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+        StatementTotals totals = read(reader);
+
+        // 1. Scale to a year and hand over to the regular calculator
+        double scale = 12.0 / months;
+        double[] spend = totals.purchases();
+        RewardCalculationRequest request = new RewardCalculationRequest();
+        request.setAnnualDiningSpend(Math.round(spend[DINING] * scale));
+        request.setAnnualTravelSpend(Math.round(spend[TRAVEL] * scale));
+        request.setAnnualOtherSpend(Math.round(spend[OTHER] * scale));
+        request.setLimit(limit);
+
+        return new StatementRewardResponse(
+                totals.transactions(),
+                totals.skipped,
+                (long) request.getAnnualDiningSpend(),
+                (long) request.getAnnualTravelSpend(),
+                (long) request.getAnnualOtherSpend(),
+                rewardService.calculateBestRewards(request)
+        );
+    }
+
+    static StatementTotals read(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.isBlank()) line = reader.readLine();
+        if (line == null) throw new IllegalArgumentException("Statement is empty");
+
+        StatementTotals totals = new StatementTotals();
+        if (line.startsWith("OFXHEADER") || line.contains("<OFX") || line.startsWith("<?xml")) {
+            readOfx(reader, line, totals);
+        } else {
+            readCsv(reader, line, totals);
+        }
+        return totals;
+    }
+
+    // --- CSV ---
+
+    private static void readCsv(BufferedReader reader, String line, StatementTotals totals) throws IOException {
+        // 1. Find the header row (banks put account details above it)
+        CsvLayout layout = null;
+        for (int scanned = 0; line != null && scanned < HEADER_SCAN_LINES; scanned++) {
+            layout = CsvLayout.detect(line);
+            if (layout != null) break;
+            line = reader.readLine();
+        }
+        if (layout == null) throw new IllegalArgumentException("No description/amount header found");
+
+        // 2. One pass over the rows, only the columns we need are located
+        int[] starts = new int[layout.columns + 1];
+        int[] ends = new int[layout.columns + 1];
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) continue;
+            int fields = split(line, layout.separator, starts, ends);
+            if (fields <= layout.description || fields <= layout.amount) {
+                totals.skipped++;
+                continue;
+            }
+
+            double amount = parseAmount(line, starts[layout.amount], ends[layout.amount]);
+            if (Double.isNaN(amount)) {
+                // Debit/credit layouts leave the debit cell empty on credit rows
+                if (!layout.debitColumn || !isBlank(line, starts[layout.amount], ends[layout.amount])) totals.skipped++;
+                continue;
+            }
+
+            // Type column if there is one, else a Dr / Cr after the amount
+            int direction = layout.type >= 0 && fields > layout.type
+                    ? direction(line, starts[layout.type], ends[layout.type])
+                    : direction(line, starts[layout.amount], ends[layout.amount]);
+            if (direction < 0) continue; // Payment or refund
+
+            int category = classify(line, starts[layout.description], ends[layout.description]);
+            if (layout.debitColumn || direction > 0) {
+                totals.purchase(category, Math.abs(amount));
+            } else {
+                totals.signed(category, amount);
+            }
+        }
+    }
+
+    /**
+     * Column positions of a statement header, or null if the line is not one.
+     */
+    private record CsvLayout(char separator, int columns, int description, int amount, boolean debitColumn, int type) {
+
+        static CsvLayout detect(String line) {
+            char separator = separatorOf(line);
+            int[] starts = new int[line.length() + 1];
+            int[] ends = new int[line.length() + 1];
+            int fields = split(line, separator, starts, ends);
+
+            int description = -1, debit = -1, amount = -1, type = -1;
+            for (int i = 0; i < fields; i++) {
+                String name = line.substring(starts[i], ends[i]).trim().toLowerCase(Locale.ROOT);
+                if (name.equals("type") || name.contains("cr/dr") || name.contains("dr/cr") || name.contains("debit/credit")
+                        || name.equals("transaction type")) {
+                    if (type < 0) type = i;
+                } else if (name.contains("description") || name.contains("narration") || name.contains("merchant")
+                        || name.contains("details") || name.contains("particulars") || name.contains("remarks")
+                        || name.contains("payee") || name.equals("name")) {
+                    if (description < 0) description = i;
+                } else if (name.contains("credit") || name.contains("deposit") || name.contains("balance")) {
+                    continue; // Money in, or the running balance: never a purchase
+                } else if (name.contains("debit") || name.contains("withdrawal")) {
+                    if (debit < 0) debit = i;
+                } else if (name.contains("amount")) {
+                    if (amount < 0) amount = i;
+                }
+            }
+            if (description < 0 || (debit < 0 && amount < 0)) return null;
+            return new CsvLayout(separator, fields, description, debit >= 0 ? debit : amount, debit >= 0, type);
+        }
+
+        private static char separatorOf(String header) {
+            char best = ',';
+            int bestCount = 0;
+            for (char candidate : new char[]{',', ';', '\t', '|'}) {
+                int count = 0;
+                for (int i = 0; i < header.length(); i++) {
+                    if (header.charAt(i) == candidate) count++;
+                }
+                if (count > bestCount) {
+                    best = candidate;
+                    bestCount = count;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Field boundaries of one CSV line (quotes stripped, "" left as is); stops when the arrays are full.
+     * @return number of fields found
+     */
+    static int split(String line, char separator, int[] starts, int[] ends) {
+        int fields = 0;
+        int i = 0;
+        int n = line.length();
+        while (fields < starts.length) {
+            if (i < n && line.charAt(i) == '"') {
+                int close = i + 1;
+                while (close < n && (line.charAt(close) != '"' || (close + 1 < n && line.charAt(close + 1) == '"'))) {
+                    close += line.charAt(close) == '"' ? 2 : 1;
+                }
+                starts[fields] = i + 1;
+                ends[fields] = Math.min(close, n);
+                i = close + 1;
+                while (i < n && line.charAt(i) != separator) i++;
+            } else {
+                int end = line.indexOf(separator, i);
+                if (end < 0) end = n;
+                starts[fields] = i;
+                ends[fields] = end;
+                i = end;
+            }
+            fields++;
+            if (i >= n) break;
+            i++; // Past the separator
+        }
+        return fields;
+    }
+
+    // --- OFX ---
+
+    private static void readOfx(BufferedReader reader, String line, StatementTotals totals) throws IOException {
+        String type = null;
+        double amount = Double.NaN;
+        StringBuilder description = new StringBuilder();
+        boolean inTransaction = false;
+        boolean seenTransaction = false;
+
+        for (; line != null; line = reader.readLine()) {
+            // SGML OFX may put one tag per line or a whole transaction on one line
+            for (int open = line.indexOf('<'); open >= 0; ) {
+                int close = line.indexOf('>', open);
+                if (close < 0) break;
+                int valueEnd = line.indexOf('<', close + 1);
+                if (valueEnd < 0) valueEnd = line.length();
+                String tag = line.substring(open + 1, close);
+
+                if (tag.equals("STMTTRN")) {
+                    type = null;
+                    amount = Double.NaN;
+                    description.setLength(0);
+                    inTransaction = true;
+                    seenTransaction = true;
+                } else if (tag.equals("/STMTTRN")) {
+                    if (inTransaction) ofxTransaction(type, amount, description, totals);
+                    inTransaction = false;
+                } else if (inTransaction) {
+                    switch (tag) {
+                        case "TRNTYPE" -> type = line.substring(close + 1, valueEnd).trim();
+                        case "TRNAMT" -> amount = parseAmount(line, close + 1, valueEnd);
+                        case "NAME", "MEMO" -> description.append(line, close + 1, valueEnd).append(' ');
+                        default -> { }
+                    }
+                }
+                open = valueEnd < line.length() ? valueEnd : -1;
+            }
+        }
+        if (!seenTransaction) throw new IllegalArgumentException("No OFX transactions found");
+    }
+
+    private static void ofxTransaction(String type, double amount, StringBuilder description, StatementTotals totals) {
+        if (Double.isNaN(amount)) {
+            totals.skipped++;
+            return;
+        }
+        if (!"DEBIT".equals(type) && !"POS".equals(type)) return; // Credits, payments, interest, fees
+        totals.purchase(classify(description, 0, description.length()), Math.abs(amount));
+    }
+
+    // --- Shared ---
+
+    static int classify(CharSequence text, int from, int to) {
+        int category = MERCHANTS.match(text, from, to);
+        return category == KeywordMatcher.NO_MATCH ? OTHER : category;
+    }
+
+    /**
+     * Reads "1,23,456.78", "-450", "(450.00)", "₹ 1,200 Dr" without allocating; letters and
+     * currency symbols are ignored (see {@link #direction} for Dr / Cr).
+     * @return signed amount, or NaN if there are no digits (or more than {@link #MAX_DIGITS})
+     */
+    static double parseAmount(CharSequence text, int from, int to) {
+        long digits = 0;
+        int significant = 0;
+        int decimals = -1;
+        boolean negative = false;
+        boolean any = false;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                if (decimals >= 0) {
+                    if (decimals == 6) continue; // Beyond paisa precision anyway
+                    decimals++;
+                }
+                if (digits > 0 || c != '0') {
+                    if (++significant > MAX_DIGITS) return Double.NaN; // Would overflow the long
+                }
+                digits = digits * 10 + (c - '0');
+                any = true;
+            } else if (c == '.') {
+                // Decimal point only between digits; the dot of "Rs." / "INR." is not one
+                if (decimals < 0 && any && i + 1 < to && isDigit(text.charAt(i + 1))) decimals = 0;
+            } else if (c == '-' || c == '(') {
+                negative = true;
+            }
+        }
+        if (!any) return Double.NaN;
+        double value = decimals > 0 ? digits / POWERS_OF_TEN[decimals] : digits;
+        return negative ? -value : value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static final int MAX_DIGITS = 15; // Paisa-exact up to Rs 10^13, and a long holds it
+
+    private static final double[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000};
+
+    /**
+     * Which way money moved from the last word of a cell: 1 for "Dr" / "Debit" / "D",
+     * -1 for "Cr" / "Credit" / "C", 0 when it does not say.
+     */
+    static int direction(CharSequence text, int from, int to) {
+        int end = to;
+        while (end > from && !Character.isLetter(text.charAt(end - 1))) end--;
+        int start = end;
+        while (start > from && Character.isLetter(text.charAt(start - 1))) start--;
+
+        int length = end - start;
+        if (length == 0) return 0;
+        char first = Character.toLowerCase(text.charAt(start));
+        if (first != 'c' && first != 'd') return 0;
+        if (length == 1) return first == 'd' ? 1 : -1;
+        String word = text.subSequence(start, end).toString().toLowerCase(Locale.ROOT);
+        return switch (word) {
+            case "dr", "debit" -> 1;
+            case "cr", "credit" -> -1;
+            default -> 0;
+        };
+    }
+
+    private static boolean isBlank(CharSequence text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!Character.isWhitespace(text.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static Map<String, Integer> keywords(int first, List<String> firstWords, int second, List<String> secondWords,
+                                                 int third, List<String> thirdWords) {
+        Map<String, Integer> keywords = new HashMap<>();
+        firstWords.forEach(word -> keywords.put(word, first));
+        secondWords.forEach(word -> keywords.put(word, second));
+        thirdWords.forEach(word -> keywords.put(word, third));
+        return keywords;
+    }
+
+    /**
+     * Running totals per category. Purchases whose direction is only given by the sign of the
+     * amount are kept per sign until the end, when the more common sign is taken as purchases.
+     */
+    static final class StatementTotals {
+        private final double[] spend = new double[3];
+        private final double[] positive = new double[3];
+        private final double[] negative = new double[3];
+        private int purchases;
+        private int positives;
+        private int negatives;
+        int skipped;
+
+        void purchase(int category, double amount) {
+            spend[category] += amount;
+            purchases++;
+        }
+
+        void signed(int category, double amount) {
+            if (amount > 0) {
+                positive[category] += amount;
+                positives++;
+            } else if (amount < 0) {
+                negative[category] -= amount;
+                negatives++;
+            }
+        }
+
+        double[] purchases() {
+            double[] side = positives >= negatives ? positive : negative;
+            double[] total = new double[3];
+            for (int c = 0; c < 3; c++) {
+                total[c] = spend[c] + side[c];
+            }
+            return total;
+        }
+
+        int transactions() {
+            return purchases + Math.max(positives, negatives);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.pryme.loan.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pryme.loan.dto.EligibilityRequest;
+import com.pryme.loan.dto.EligibilityResponse;
+import com.pryme.loan.dto.PrePaymentRequest;
+import com.pryme.loan.dto.PrePaymentResponse;
+import com.pryme.loan.dto.ScheduleGranularity;
+import com.pryme.loan.service.AmortizationScheduleSink;
+import com.pryme.loan.service.CacheStatsRegistry;
+import com.pryme.loan.service.LoanSimulationService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+
+/**
+ * Result cache in front of the configured simulation engine.
+ * Slider UIs resend the same few (amount, rate, tenure, flags) combinations, so results are
+ * memoized per canonical request (amounts to the paisa, rates without trailing zeros).
+ *
+ * Caffeine gives size-bounded W-TinyLFU eviction, TTL and stats; cache.get(key, loader) is
+ * single-flight, so a burst of identical concurrent requests computes once.
+ * Disable with pryme.simulation.cache.enabled=false.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "pryme.simulation.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingLoanSimulationService implements LoanSimulationService {
+
+    private final LoanSimulationService engine;
+    private final Cache<PrePaymentKey, PrePaymentResponse> prePaymentCache;
+    private final Cache<EligibilityKey, EligibilityResponse> eligibilityCache;
+
+    public CachingLoanSimulationService(
+            @Qualifier(LoanSimulationServiceImpl.ENGINE_BEAN) LoanSimulationService engine,
+            CacheStatsRegistry cacheStatsRegistry,
+            @Value("${pryme.simulation.cache.max-entries:10000}") long maxEntries,
+            @Value("${pryme.simulation.cache.ttl:30m}") Duration ttl) {
+        this.engine = engine;
+        this.prePaymentCache = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).recordStats().build();
+        this.eligibilityCache = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).recordStats().build();
+        cacheStatsRegistry.register("prePaymentSavings", prePaymentCache);
+        cacheStatsRegistry.register("eligibility", eligibilityCache);
+    }
+
+    @Override
+    public PrePaymentResponse calculatePrePaymentSavings(PrePaymentRequest request) {
+        PrePaymentKey key = PrePaymentKey.of(request);
+        return prePaymentCache.get(key, k -> engine.calculatePrePaymentSavings(k.toRequest()));
+    }
+
+    @Override
+    public EligibilityResponse checkEligibility(EligibilityRequest request) {
+        EligibilityKey key = EligibilityKey.of(request);
+        return eligibilityCache.get(key, k -> engine.checkEligibility(k.toRequest()));
+    }
+
+    @Override
+    public void streamPrePaymentSchedule(PrePaymentRequest request, ScheduleGranularity granularity, AmortizationScheduleSink sink) {
+        // Streams are not memoized; they exist precisely to avoid holding rows
+        engine.streamPrePaymentSchedule(request, granularity, sink);
+    }
+
+    // --- Canonical keys (the engine always computes from the canonical form) ---
+
+    record PrePaymentKey(BigDecimal loanAmount, BigDecimal interestRate, int tenureYears,
+                         boolean enable13thEmi, boolean enableStepUp) {
+
+        static PrePaymentKey of(PrePaymentRequest request) {
+            return new PrePaymentKey(
+                    request.getLoanAmount().setScale(2, RoundingMode.HALF_UP),
+                    canonicalRate(request.getInterestRate()),
+                    request.getTenureYears(),
+                    request.isEnable13thEmi(),
+                    request.isEnableStepUp());
+        }
+
+        PrePaymentRequest toRequest() {
+            PrePaymentRequest request = new PrePaymentRequest();
+            request.setLoanAmount(loanAmount);
+            request.setInterestRate(interestRate);
+            request.setTenureYears(tenureYears);
+            request.setEnable13thEmi(enable13thEmi);
+            request.setEnableStepUp(enableStepUp);
+            return request;
+        }
+
+        // 8.5, 8.50 and 8.500 must share one entry
+        private static BigDecimal canonicalRate(BigDecimal rate) {
+            BigDecimal stripped = rate.stripTrailingZeros();
+            return stripped.scale() < 0 ? stripped.setScale(0) : stripped;
+        }
+    }
+
+    record EligibilityKey(long monthlyIncomePaise, String occupation, long existingEmisPaise) {
+
+        static EligibilityKey of(EligibilityRequest request) {
+            return new EligibilityKey(
+                    Math.round(request.getMonthlyIncome() * 100),
+                    request.getOccupation() != null ? request.getOccupation().toLowerCase() : "salaried",
+                    Math.round(request.getExistingEmis() * 100));
+        }
+
+        EligibilityRequest toRequest() {
+            EligibilityRequest request = new EligibilityRequest();
+            request.setMonthlyIncome(monthlyIncomePaise / 100.0);
+            request.setOccupation(occupation);
+            request.setExistingEmis(existingEmisPaise / 100.0);
+            return request;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.pryme.loan.service.impl;
+
+import com.pryme.loan.utils.FinancialUtils;
+
+/**
+ * Month-by-month amortization loop on fixed-point longs (see {@link FinancialUtils#UNITS_PER_RUPEE}).
+ * Shared by the fixed-point engine (summary only) and the schedule stream (one callback per month).
+ */
+final class FixedPointAmortizer {
+
+    static final double STEP_UP_FACTOR = 1.0 + LoanSimulationServiceImpl.STEP_UP_RATE.doubleValue();
+    static final long SETTLEMENT_TOLERANCE = FinancialUtils.toUnits(FinancialUtils.SETTLEMENT_TOLERANCE);
+
+    // Receives each simulated month; all amounts in fixed-point units
+    interface MonthListener {
+        void onMonth(int month, long payment, long interest, long balance);
+    }
+
+    private FixedPointAmortizer() {}
+
+    /**
+     * Interest is taken in double and rounded back to the nearest unit, which keeps the
+     * accumulated drift far below a rupee over a 30-year run.
+     *
+     * @param listener optional, may be null
+     * @return {totalInterestUnits, monthsTaken, lastEmiUnits}
+     */
+    static long[] simulate(
+            long principal,
+            double monthlyRate,
+            long initialEmi,
+            int maxMonths,
+            boolean is13thEmi,
+            boolean isStepUp,
+            MonthListener listener
+    ) {
+        long balance = principal;
+        long totalInterestPaid = 0;
+        long currentEmi = initialEmi;
+        int month = 0;
+
+        while (balance > 0 && month < maxMonths) {
+            month++;
+
+            long interestForMonth = Math.round(balance * monthlyRate);
+            totalInterestPaid += interestForMonth;
+
+            // Strategy 1: 13th EMI (one extra current EMI at each year end)
+            boolean yearEnd = month % 12 == 0;
+            long paymentForMonth = (is13thEmi && yearEnd) ? currentEmi * 2 : currentEmi;
+
+            // Cap payment if it exceeds balance (or leaves only rounding dust)
+            long remaining = balance + interestForMonth - paymentForMonth;
+            if (remaining < SETTLEMENT_TOLERANCE) {
+                paymentForMonth = balance + interestForMonth;
+                balance = 0;
+            } else {
+                balance = remaining;
+            }
+
+            if (listener != null) {
+                listener.onMonth(month, paymentForMonth, interestForMonth, balance);
+            }
+
+            // Strategy 2: Step Up (Increase EMI by 5% at start of every new year)
+            if (isStepUp && yearEnd && month < maxMonths && balance > 0) {
+                currentEmi = Math.round(currentEmi * STEP_UP_FACTOR);
+            }
+        }
+
+        return new long[]{totalInterestPaid, month, currentEmi};
+    }
+}
@@ -0,0 +1,47 @@
+package com.pryme.loan.service.impl;
+
+import com.pryme.loan.dto.PrePaymentRequest;
+import com.pryme.loan.dto.PrePaymentResponse;
+import com.pryme.loan.utils.FinancialUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+
+/**
+ * Pre-payment engine that keeps every balance as a long in fixed-point units
+ * (see {@link FixedPointAmortizer}), so the monthly loop does not allocate.
+ * Results match the BigDecimal engine to within one rupee after rounding.
+ *
+ * Enable with pryme.simulation.engine=fixed-point. Eligibility is inherited unchanged.
+ */
+@Service(LoanSimulationServiceImpl.ENGINE_BEAN)
+@ConditionalOnProperty(name = "pryme.simulation.engine", havingValue = "fixed-point")
+public class FixedPointLoanSimulationServiceImpl extends LoanSimulationServiceImpl {
+
+    @Override
+    public PrePaymentResponse calculatePrePaymentSavings(PrePaymentRequest request) {
+        BigDecimal loanAmount = request.getLoanAmount();
+        BigDecimal annualRate = request.getInterestRate();
+        int tenureMonths = request.getTenureYears() * 12;
+
+        // 1. Base EMI once per request (same rounding as the reference engine)
+        double monthlyRate = FinancialUtils.getMonthlyRate(annualRate).doubleValue();
+        BigDecimal baseEmi = FinancialUtils.calculateEmi(loanAmount, annualRate, tenureMonths);
+
+        // 2. Simulate "Optimized" Scenario on primitives
+        long[] result = FixedPointAmortizer.simulate(
+                FinancialUtils.toUnits(loanAmount),
+                monthlyRate,
+                FinancialUtils.toUnits(baseEmi),
+                tenureMonths,
+                request.isEnable13thEmi(),
+                request.isEnableStepUp(),
+                null
+        );
+
+        // 3. Convert back only for the response
+        return buildResponse(request, baseEmi, tenureMonths,
+                FinancialUtils.fromUnits(result[0]), (int) result[1], FinancialUtils.fromUnits(result[2]));
+    }
+}
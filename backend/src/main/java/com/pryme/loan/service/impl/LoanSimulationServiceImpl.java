@@ -4,17 +4,25 @@ import com.pryme.loan.dto.EligibilityRequest;
 import com.pryme.loan.dto.EligibilityResponse;
 import com.pryme.loan.dto.PrePaymentRequest;
 import com.pryme.loan.dto.PrePaymentResponse;
+import com.pryme.loan.dto.ScheduleGranularity;
+import com.pryme.loan.service.AmortizationScheduleSink;
 import com.pryme.loan.service.LoanSimulationService;
 import com.pryme.loan.utils.FinancialUtils; // Assuming you added the Utils class
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
-@Service
+// Reference BigDecimal engine. Switch with pryme.simulation.engine (see application.properties)
+@Service(LoanSimulationServiceImpl.ENGINE_BEAN)
+@ConditionalOnProperty(name = "pryme.simulation.engine", havingValue = "bigdecimal", matchIfMissing = true)
 public class LoanSimulationServiceImpl implements LoanSimulationService {
 
-    private static final BigDecimal STEP_UP_RATE = new BigDecimal("0.05"); // 5% increase
+    // Every engine registers under this name so decorators can ask for "the engine" explicitly
+    public static final String ENGINE_BEAN = "loanSimulationEngine";
+
+    protected static final BigDecimal STEP_UP_RATE = new BigDecimal("0.05"); // 5% increase
 
     @Override
     public PrePaymentResponse calculatePrePaymentSavings(PrePaymentRequest request) {
@@ -26,11 +34,7 @@ public class LoanSimulationServiceImpl implements LoanSimulationService {
         BigDecimal monthlyRate = FinancialUtils.getMonthlyRate(annualRate);
         BigDecimal baseEmi = FinancialUtils.calculateEmi(loanAmount, annualRate, tenureMonths);
 
-        // 2. Calculate "Regular" Scenario (No Prepayment)
-        BigDecimal totalPaymentRegular = baseEmi.multiply(new BigDecimal(tenureMonths));
-        BigDecimal totalInterestRegular = totalPaymentRegular.subtract(loanAmount);
-
-        // 3. Simulate "Optimized" Scenario
+        // 2. Simulate "Optimized" Scenario
         SimulationResult simResult = simulateLoanRun(
                 loanAmount,
                 monthlyRate,
@@ -40,28 +44,97 @@ public class LoanSimulationServiceImpl implements LoanSimulationService {
                 request.isEnableStepUp()
         );
 
-        // 4. Construct Response
+        // 3. Construct Response (Regular scenario is derived from the base EMI)
+        return buildResponse(request, baseEmi, tenureMonths,
+                simResult.totalInterestPaid, simResult.monthsTaken, simResult.lastEmiAmount);
+    }
+
+    // Shared by every engine so the "Regular" numbers and rounding stay identical
+    protected PrePaymentResponse buildResponse(
+            PrePaymentRequest request,
+            BigDecimal baseEmi,
+            int tenureMonths,
+            BigDecimal totalInterestPaid,
+            int monthsTaken,
+            BigDecimal lastEmiAmount
+    ) {
+        // "Regular" Scenario (No Prepayment)
+        BigDecimal totalPaymentRegular = baseEmi.multiply(new BigDecimal(tenureMonths));
+        BigDecimal totalInterestRegular = totalPaymentRegular.subtract(request.getLoanAmount());
+
         PrePaymentResponse response = new PrePaymentResponse();
         response.setRegularEmi(baseEmi.setScale(0, RoundingMode.HALF_UP));
         response.setRegularTotalInterest(totalInterestRegular.setScale(0, RoundingMode.HALF_UP));
 
-        response.setNewTotalInterest(simResult.totalInterestPaid.setScale(0, RoundingMode.HALF_UP));
-        response.setInterestSaved(totalInterestRegular.subtract(simResult.totalInterestPaid).setScale(0, RoundingMode.HALF_UP));
+        response.setNewTotalInterest(totalInterestPaid.setScale(0, RoundingMode.HALF_UP));
+        response.setInterestSaved(totalInterestRegular.subtract(totalInterestPaid).setScale(0, RoundingMode.HALF_UP));
 
         response.setOriginalMonths(tenureMonths);
-        response.setNewMonths(simResult.monthsTaken);
-        response.setMonthsSaved(tenureMonths - simResult.monthsTaken);
+        response.setNewMonths(monthsTaken);
+        response.setMonthsSaved(tenureMonths - monthsTaken);
 
         // Extra info for UI
         // NOTE: Yearly extra payment is now dynamic in "Aggressive" mode,
         // but for the UI summary, we usually show the STARTING extra payment.
         response.setYearlyExtraPayment(request.isEnable13thEmi() ? baseEmi.setScale(0, RoundingMode.HALF_UP) : BigDecimal.ZERO);
         response.setFirstYearEmi(baseEmi.setScale(0, RoundingMode.HALF_UP));
-        response.setLastYearEmi(simResult.lastEmiAmount.setScale(0, RoundingMode.HALF_UP));
+        response.setLastYearEmi(lastEmiAmount.setScale(0, RoundingMode.HALF_UP));
 
         return response;
     }
 
+    @Override
+    public void streamPrePaymentSchedule(PrePaymentRequest request, ScheduleGranularity granularity, AmortizationScheduleSink sink) {
+        int tenureMonths = request.getTenureYears() * 12;
+        double monthlyRate = FinancialUtils.getMonthlyRate(request.getInterestRate()).doubleValue();
+        BigDecimal baseEmi = FinancialUtils.calculateEmi(request.getLoanAmount(), request.getInterestRate(), tenureMonths);
+
+        long principal = FinancialUtils.toUnits(request.getLoanAmount());
+        long emi = FinancialUtils.toUnits(baseEmi);
+
+        // Both schedules come straight off the fixed-point loop, one row per period
+        FixedPointAmortizer.simulate(principal, monthlyRate, emi, tenureMonths, false, false,
+                new PeriodAggregator("regular", granularity.getMonths(), tenureMonths, sink));
+        FixedPointAmortizer.simulate(principal, monthlyRate, emi, tenureMonths,
+                request.isEnable13thEmi(), request.isEnableStepUp(),
+                new PeriodAggregator("optimized", granularity.getMonths(), tenureMonths, sink));
+    }
+
+    // Sums months into periods and emits a row at each period end (or at payoff)
+    private static class PeriodAggregator implements FixedPointAmortizer.MonthListener {
+        private final String scenario;
+        private final int step;
+        private final int maxMonths;
+        private final AmortizationScheduleSink sink;
+
+        private int period;
+        private long payment;
+        private long interest;
+
+        PeriodAggregator(String scenario, int step, int maxMonths, AmortizationScheduleSink sink) {
+            this.scenario = scenario;
+            this.step = step;
+            this.maxMonths = maxMonths;
+            this.sink = sink;
+        }
+
+        @Override
+        public void onMonth(int month, long paymentForMonth, long interestForMonth, long balance) {
+            payment += paymentForMonth;
+            interest += interestForMonth;
+
+            if (month % step == 0 || balance == 0 || month == maxMonths) {
+                period++;
+                long paymentRupees = FinancialUtils.unitsToRupees(payment);
+                long interestRupees = FinancialUtils.unitsToRupees(interest);
+                sink.row(scenario, period, month, paymentRupees, paymentRupees - interestRupees, interestRupees,
+                        FinancialUtils.unitsToRupees(balance));
+                payment = 0;
+                interest = 0;
+            }
+        }
+    }
+
     private SimulationResult simulateLoanRun(
             BigDecimal principal,
             BigDecimal monthlyRate,
@@ -91,9 +164,9 @@ public class LoanSimulationServiceImpl implements LoanSimulationService {
                 paymentForMonth = paymentForMonth.add(currentEmi);
             }
 
-            // Cap payment if it exceeds balance
+            // Cap payment if it exceeds balance (or leaves only rounding dust)
             BigDecimal totalDue = balance.add(interestForMonth);
-            if (paymentForMonth.compareTo(totalDue) >= 0) {
+            if (totalDue.subtract(paymentForMonth).compareTo(FinancialUtils.SETTLEMENT_TOLERANCE) < 0) {
                 paymentForMonth = totalDue;
                 balance = BigDecimal.ZERO;
             } else {
@@ -102,7 +175,7 @@ public class LoanSimulationServiceImpl implements LoanSimulationService {
             }
 
             // Strategy 2: Step Up (Increase EMI by 5% at start of every new year)
-            if (isStepUp && month % 12 == 0 && balance.compareTo(BigDecimal.ZERO) > 0) {
+            if (isStepUp && month % 12 == 0 && month < maxMonths && balance.compareTo(BigDecimal.ZERO) > 0) {
                 currentEmi = currentEmi.multiply(BigDecimal.ONE.add(STEP_UP_RATE));
             }
         }
@@ -126,20 +199,9 @@ public class LoanSimulationServiceImpl implements LoanSimulationService {
     public EligibilityResponse checkEligibility(EligibilityRequest request) {
         double income = request.getMonthlyIncome();
         double existingEmis = request.getExistingEmis();
-        String occupation = request.getOccupation() != null ? request.getOccupation().toLowerCase() : "salaried";
 
         // 1. Determine FOIR (Fixed Obligation to Income Ratio)
-        double maxFoir;
-        switch (occupation) {
-            case "self-employed":
-                maxFoir = 0.40; // 40%
-                break;
-            case "professional":
-                maxFoir = 0.45; // 45%
-                break;
-            default: // "salaried"
-                maxFoir = 0.50; // 50%
-        }
+        double maxFoir = FinancialUtils.maxFoir(request.getOccupation());
 
         // 2. Calculate Available Capacity
         double maxEmiCapacity = (income * maxFoir) - existingEmis;
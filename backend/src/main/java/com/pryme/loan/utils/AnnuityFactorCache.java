@@ -0,0 +1,67 @@
+package com.pryme.loan.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.math.BigDecimal;
+
+/**
+ * Process-wide cache of annuity factors  r(1+r)^n / ((1+r)^n - 1)  keyed by (rate in bps, months).
+ * EMI = principal x factor, so every EMI computation shares the expensive (1+r)^n.
+ *
+ * Only rates that are whole basis points are cached (that is what real inputs look like);
+ * anything finer is computed directly. Bounded, so odd inputs cannot grow it without limit.
+ */
+public final class AnnuityFactorCache {
+
+    public static final int MAX_ENTRIES = 20_000;
+
+    private static final Cache<Long, BigDecimal> CACHE = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .recordStats()
+            .build();
+
+    private AnnuityFactorCache() {}
+
+    /**
+     * @param annualRate annual rate in percent (e.g. 8.5); zero/null gives the no-interest factor 1/n
+     */
+    public static BigDecimal get(BigDecimal annualRate, int months) {
+        int bps = toBasisPoints(annualRate);
+        if (bps < 0) {
+            return compute(annualRate, months);
+        }
+        long key = ((long) bps << 32) | (months & 0xFFFFFFFFL);
+        return CACHE.get(key, k -> compute(annualRate, months));
+    }
+
+    // Uncached factor with the same MathContext as FinancialUtils
+    public static BigDecimal compute(BigDecimal annualRate, int months) {
+        BigDecimal monthlyRate = FinancialUtils.getMonthlyRate(annualRate);
+        if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ONE.divide(new BigDecimal(months), FinancialUtils.MC);
+        }
+        BigDecimal onePlusRPowN = BigDecimal.ONE.add(monthlyRate).pow(months, FinancialUtils.MC);
+        return monthlyRate.multiply(onePlusRPowN, FinancialUtils.MC)
+                .divide(onePlusRPowN.subtract(BigDecimal.ONE, FinancialUtils.MC), FinancialUtils.MC);
+    }
+
+    public static CacheStats stats() {
+        return CACHE.stats();
+    }
+
+    public static long size() {
+        return CACHE.estimatedSize();
+    }
+
+    // Whole, non-negative basis points, or -1 if the rate is finer than 1 bps
+    private static int toBasisPoints(BigDecimal annualRate) {
+        if (annualRate == null) return 0;
+        BigDecimal bps = annualRate.movePointRight(2).stripTrailingZeros();
+        if (bps.scale() > 0 || bps.signum() < 0 || bps.compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) > 0) {
+            return -1;
+        }
+        return bps.intValueExact();
+    }
+}
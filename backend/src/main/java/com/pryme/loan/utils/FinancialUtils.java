@@ -15,6 +15,13 @@ public class FinancialUtils {
     public static final BigDecimal HUNDRED = new BigDecimal("100");
     public static final BigDecimal TWELVE = new BigDecimal("12");
 
+    // Fixed-point money: 1 unit = 1/10000 rupee (hundredth of a paisa), held in a long
+    public static final int UNIT_SCALE = 4;
+    public static final long UNITS_PER_RUPEE = 10_000L;
+
+    // A balance left under one rupee after a payment is treated as closed (rounding dust)
+    public static final BigDecimal SETTLEMENT_TOLERANCE = BigDecimal.ONE;
+
     /**
      * Calculates the monthly interest rate from an annual percentage.
      * @param annualRate Annual Interest Rate (e.g., 8.5 for 8.5%)
@@ -31,24 +38,91 @@ public class FinancialUtils {
 
     /**
      * Standard EMI Calculation Formula: [P * r * (1+r)^n] / [(1+r)^n - 1]
+     * The rate/tenure part is an annuity factor shared through {@link AnnuityFactorCache}.
      */
     public static BigDecimal calculateEmi(BigDecimal principal, BigDecimal annualRate, int months) {
         if (principal == null || months == 0) return BigDecimal.ZERO;
 
-        BigDecimal monthlyRate = getMonthlyRate(annualRate);
+        // If interest is 0 the factor is simply 1/n
+        return principal.multiply(AnnuityFactorCache.get(annualRate, months), MC);
+    }
+
+    /**
+     * Inverse of calculateEmi for the loan amount: P = EMI / factor (same cached factor).
+     */
+    public static BigDecimal calculatePrincipal(BigDecimal emi, BigDecimal annualRate, int months) {
+        if (emi == null || months == 0) return BigDecimal.ZERO;
+        return emi.divide(AnnuityFactorCache.get(annualRate, months), MC);
+    }
 
-        // If interest is 0, just divide principal by months
-        if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
-            return principal.divide(new BigDecimal(months), MC);
+    /**
+     * Inverse of calculateEmi for the tenure: the fewest months whose EMI does not exceed the target.
+     * Closed form n = -ln(1 - rP/E) / ln(1+r) (P/E at a zero rate), rounded up and then checked
+     * against calculateEmi on both sides in case floating point lands on the wrong month.
+     * The check only runs once the estimate is within {@code maxMonths}, so an EMI barely above the
+     * interest never reaches calculateEmi with a huge tenure.
+     * @return months, or -1 if the EMI does not clear the loan within {@code maxMonths}
+     *         (or at all: it does not even cover the interest)
+     */
+    public static int calculateTenureMonths(BigDecimal principal, BigDecimal annualRate, BigDecimal emi, int maxMonths) {
+        double p = principal.doubleValue();
+        double e = emi.doubleValue();
+        double r = getMonthlyRate(annualRate).doubleValue();
+        if (p <= 0 || e <= 0) return -1;
+
+        double n;
+        if (r == 0) {
+            n = p / e;
+        } else {
+            double interestShare = r * p / e;
+            if (interestShare >= 1) return -1;
+            n = -Math.log1p(-interestShare) / Math.log1p(r);
         }
+        if (!(Math.ceil(n) <= maxMonths)) return -1; // Also NaN
 
-        BigDecimal onePlusR = BigDecimal.ONE.add(monthlyRate);
-        BigDecimal onePlusRPowN = onePlusR.pow(months, MC);
+        int months = Math.max(1, (int) Math.ceil(n));
+        while (months > 1 && calculateEmi(principal, annualRate, months - 1).compareTo(emi) <= 0) months--;
+        while (months <= maxMonths && calculateEmi(principal, annualRate, months).compareTo(emi) > 0) months++;
+        return months <= maxMonths ? months : -1;
+    }
 
-        BigDecimal numerator = principal.multiply(monthlyRate, MC).multiply(onePlusRPowN, MC);
-        BigDecimal denominator = onePlusRPowN.subtract(BigDecimal.ONE, MC);
+    /**
+     * Monthly IRR of a loan: the rate i at which n payments of {@code emi} are worth
+     * {@code netDisbursed} (the amount actually received, i.e. after fees) today.
+     * Newton's method on  f(i) = emi * (1 - (1+i)^-n) / i - netDisbursed, started from
+     * {@code guess}; converges in a handful of steps from a guess near the nominal rate.
+     * @return monthly rate as a fraction, or NaN if it does not converge
+     */
+    public static double solveMonthlyIrr(double netDisbursed, double emi, int months, double guess) {
+        if (emi * months <= netDisbursed) return 0; // Fee-free zero-rate loan (or worse): no cost
+        double i = Math.max(guess, 1e-9);
+        for (int iteration = 0; iteration < 50; iteration++) {
+            double discount = Math.exp(-months * Math.log1p(i));           // (1+i)^-n
+            double annuity = -Math.expm1(-months * Math.log1p(i)) / i;      // (1 - (1+i)^-n) / i
+            double f = emi * annuity - netDisbursed;
+            double slope = emi * (months * discount / (1 + i) - annuity) / i;
+            double step = f / slope;
+            i -= step;
+            if (i <= 0) i = 1e-9;
+            if (Math.abs(step) < 1e-13) return i;
+        }
+        return Double.NaN;
+    }
 
-        return numerator.divide(denominator, MC);
+    /**
+     * Max FOIR (Fixed Obligation to Income Ratio) lenders allow for an occupation.
+     * @param occupation "salaried" (default), "self-employed" or "professional"
+     */
+    public static double maxFoir(String occupation) {
+        String normalized = occupation != null ? occupation.toLowerCase() : "salaried";
+        switch (normalized) {
+            case "self-employed":
+                return 0.40; // 40%
+            case "professional":
+                return 0.45; // 45%
+            default: // "salaried"
+                return 0.50; // 50%
+        }
     }
 
     /**
@@ -64,4 +138,25 @@ public class FinancialUtils {
     public static BigDecimal roundEmi(BigDecimal amount) {
         return amount != null ? amount.setScale(0, ROUNDING) : BigDecimal.ZERO;
     }
+
+    /**
+     * Converts a rupee amount to fixed-point units (rounded to the nearest unit).
+     */
+    public static long toUnits(BigDecimal amount) {
+        return amount != null ? amount.setScale(UNIT_SCALE, ROUNDING).unscaledValue().longValueExact() : 0L;
+    }
+
+    /**
+     * Converts fixed-point units back to a rupee amount.
+     */
+    public static BigDecimal fromUnits(long units) {
+        return BigDecimal.valueOf(units, UNIT_SCALE);
+    }
+
+    /**
+     * Rounds fixed-point units to whole rupees (half up), without leaving primitives.
+     */
+    public static long unitsToRupees(long units) {
+        return Math.floorDiv(units + UNITS_PER_RUPEE / 2, UNITS_PER_RUPEE);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.pryme.loan.utils;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Aho–Corasick matcher for a fixed set of ASCII keywords, each tagged with an int label.
+ * The automaton is compiled into a dense (state x char) table, so scanning a text costs one
+ * array read per character no matter how many keywords there are. Matching is case-insensitive
+ * and a keyword only counts as whole words ("ola" hits "OLA CABS", not "COCA COLA" or "OLAF").
+ * Multi-word keywords ("metro cash") still match across their own spaces.
+ * Immutable after construction, safe to share between threads.
+ */
+public final class KeywordMatcher {
+
+    public static final int NO_MATCH = -1;
+
+    private static final int ALPHABET = 128;
+
+    private final int[] next;     // [state * ALPHABET + c] -> state, failure links already folded in
+    private final int[] label;    // Label of the keyword ending exactly at this state, or NO_MATCH
+    private final int[] length;   // Its length
+    private final int[] dictLink; // Nearest state on the failure chain that ends a keyword, or -1
+
+    /**
+     * @param keywords keyword -> label (keywords are ASCII, case is ignored)
+     */
+    public KeywordMatcher(Map<String, Integer> keywords) {
+        int maxStates = 1 + keywords.keySet().stream().mapToInt(String::length).sum();
+        int[] goTo = new int[maxStates * ALPHABET];
+        Arrays.fill(goTo, -1);
+        label = new int[maxStates];
+        length = new int[maxStates];
+        Arrays.fill(label, NO_MATCH);
+
+        // 1. Trie
+        int states = 1;
+        for (Map.Entry<String, Integer> keyword : keywords.entrySet()) {
+            String text = keyword.getKey().toLowerCase(Locale.ROOT);
+            int state = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c >= ALPHABET) throw new IllegalArgumentException("Keyword is not ASCII: " + keyword.getKey());
+                int slot = state * ALPHABET + c;
+                if (goTo[slot] < 0) goTo[slot] = states++;
+                state = goTo[slot];
+            }
+            if (state == 0) continue; // Empty keyword
+            label[state] = keyword.getValue();
+            length[state] = text.length();
+        }
+
+        // 2. Failure links breadth-first, turning the trie into a full DFA as we go
+        next = Arrays.copyOf(goTo, states * ALPHABET);
+        dictLink = new int[states];
+        int[] fail = new int[states];
+        Arrays.fill(dictLink, -1);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            if (next[c] < 0) {
+                next[c] = 0;
+            } else {
+                queue.add(next[c]); // Depth 1: fails to the root
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int c = 0; c < ALPHABET; c++) {
+                int slot = state * ALPHABET + c;
+                int target = fail[state] * ALPHABET + c;
+                if (next[slot] < 0) {
+                    next[slot] = next[target];
+                } else {
+                    int child = next[slot];
+                    fail[child] = next[target];
+                    dictLink[child] = label[fail[child]] != NO_MATCH ? fail[child] : dictLink[fail[child]];
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Label of the longest keyword found in text[from, to), or {@link #NO_MATCH}.
+     * Non-ASCII characters act as word separators.
+     */
+    public int match(CharSequence text, int from, int to) {
+        int state = 0;
+        int best = NO_MATCH;
+        int bestLength = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c >= ALPHABET) {
+                state = 0;
+                continue;
+            }
+            state = next[state * ALPHABET + Character.toLowerCase(c)];
+            if (i + 1 < to && Character.isLetterOrDigit(text.charAt(i + 1))) continue; // Not the end of a word
+
+            // Every keyword ending here: this state, then down the dictionary links (longest first)
+            for (int hit = label[state] != NO_MATCH ? state : dictLink[state]; hit >= 0; hit = dictLink[hit]) {
+                if (length[hit] <= bestLength) break;
+                int start = i - length[hit] + 1;
+                if (start == from || !Character.isLetterOrDigit(text.charAt(start - 1))) {
+                    best = label[hit];
+                    bestLength = length[hit];
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+}
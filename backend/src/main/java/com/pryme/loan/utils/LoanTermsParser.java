@@ -0,0 +1,150 @@
+package com.pryme.loan.utils;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the free-text product terms admins type in (e.g. "10.5%", "50 Lakhs", "1-5 Years", "1%")
+ * into numbers. Anything unreadable comes back as NaN / 0 so callers can skip the product.
+ */
+public final class LoanTermsParser {
+
+    // A number (Indian digit grouping allowed) followed by an optional unit word
+    private static final Pattern AMOUNT = Pattern.compile("(\\d[\\d,]*(?:\\.\\d+)?)\\s*(?:(crores?|cr|lakhs?|lacs?|l|k|thousand)\\b)?");
+    private static final Pattern NUMBER = Pattern.compile("\\d+(?:\\.\\d+)?");
+
+    // Processing fee parts: "1%", or the top of "0.5 - 1%" / "0.5 to 1%" (range taken at its upper end)
+    private static final Pattern PERCENT = Pattern.compile(
+            "(?:\\d+(?:\\.\\d+)?\\s*%?\\s*(?:-|–|to)\\s*)?(\\d[\\d,]*(?:\\.\\d+)?)\\s*%");
+    // "18% GST" is the tax rate, not the fee ("1% + GST" is still the fee)
+    private static final Pattern GST_AFTER = Pattern.compile("\\s*(?:gst|tax)\\b");
+    private static final Pattern CAP_WORDS = Pattern.compile("\\b(?:max|maximum|upto|up to|capped|cap|not exceeding)\\b");
+    private static final Pattern FLOOR_WORDS = Pattern.compile("\\b(?:min|minimum|at least|atleast)\\b");
+    private static final Pattern WHICHEVER_HIGHER = Pattern.compile("whichever is (?:higher|greater|more)");
+    private static final Pattern WHICHEVER_LOWER = Pattern.compile("whichever is (?:lower|less|smaller)");
+
+    private LoanTermsParser() {}
+
+    /**
+     * Annual rate in % ("10.5%" -> 10.5). For a range ("10.5% - 12%") the starting rate is used.
+     */
+    public static double parseRate(String text) {
+        if (text == null) return Double.NaN;
+        Matcher m = NUMBER.matcher(text);
+        return m.find() ? Double.parseDouble(m.group()) : Double.NaN;
+    }
+
+    /**
+     * Rupees ("50 Lakhs" -> 5000000, "1 Crore" -> 10000000, "5,00,000" -> 500000).
+     * For a range the largest amount is used.
+     */
+    public static double parseAmount(String text) {
+        if (text == null) return Double.NaN;
+        Matcher m = AMOUNT.matcher(text.toLowerCase(Locale.ROOT));
+        double max = Double.NaN;
+        while (m.find()) {
+            double value = Double.parseDouble(m.group(1).replace(",", "")) * unitMultiplier(m.group(2));
+            if (Double.isNaN(max) || value > max) max = value;
+        }
+        return max;
+    }
+
+    /**
+     * Longest tenure in months ("1-5 Years" -> 60, "84 Months" -> 84); years unless "month" is mentioned.
+     */
+    public static int parseMaxTenureMonths(String text) {
+        if (text == null) return 0;
+        Matcher m = NUMBER.matcher(text);
+        double max = 0;
+        while (m.find()) {
+            max = Math.max(max, Double.parseDouble(m.group()));
+        }
+        boolean months = text.toLowerCase(Locale.ROOT).contains("month");
+        return (int) Math.round(months ? max : max * 12);
+    }
+
+    /**
+     * Shortest tenure in months ("1-5 Years" -> 12, "84 Months" -> 84).
+     */
+    public static int parseMinTenureMonths(String text) {
+        if (text == null) return 0;
+        Matcher m = NUMBER.matcher(text);
+        double min = Double.NaN;
+        while (m.find()) {
+            double value = Double.parseDouble(m.group());
+            if (Double.isNaN(min) || value < min) min = value;
+        }
+        if (Double.isNaN(min)) return 0;
+        boolean months = text.toLowerCase(Locale.ROOT).contains("month");
+        return (int) Math.round(months ? min : min * 12);
+    }
+
+    /**
+     * Processing fee, as separate parts: a percentage of the loan, a flat amount, a floor and a cap.
+     *  - "1%", "0.5% - 1%" / "0.5 to 1%" (upper end of a range), "1% + GST" (the GST rate is not the fee)
+     *  - "Rs 999" (flat), "Rs 999 + 0.5%" (flat plus percentage), "Rs 999 - 1,999" (upper end)
+     *  - "0.5% (max Rs 10,000)", "upto Rs 10,000", "capped at ..." -> cap
+     *  - "1% (min Rs 5,000)", "1% or Rs 5,000 whichever is higher" -> floor ("whichever is lower" -> cap)
+     *  - "Nil" -> no fee
+     */
+    public static Fee parseFee(String text) {
+        if (text == null) return Fee.NONE;
+        String lower = text.toLowerCase(Locale.ROOT);
+
+        // 1. Percentages (blanked out afterwards so their numbers are not read as rupees)
+        double percent = 0;
+        StringBuilder rest = new StringBuilder(lower);
+        Matcher p = PERCENT.matcher(lower);
+        while (p.find()) {
+            for (int i = p.start(); i < p.end(); i++) rest.setCharAt(i, ' ');
+            if (GST_AFTER.matcher(lower).region(p.end(), lower.length()).lookingAt()) continue;
+            percent = Math.max(percent, Double.parseDouble(p.group(1).replace(",", "")));
+        }
+
+        // 2. Rupee amounts, each qualified by the words just before it
+        boolean whicheverHigher = WHICHEVER_HIGHER.matcher(lower).find();
+        boolean whicheverLower = WHICHEVER_LOWER.matcher(lower).find();
+        double flat = 0, floor = 0, cap = Double.POSITIVE_INFINITY;
+        String remaining = rest.toString();
+        Matcher a = AMOUNT.matcher(remaining);
+        int previousEnd = 0;
+        while (a.find()) {
+            double value = Double.parseDouble(a.group(1).replace(",", "")) * unitMultiplier(a.group(2));
+            String before = remaining.substring(previousEnd, a.start());
+            previousEnd = a.end();
+            if (GST_AFTER.matcher(remaining).region(a.end(), remaining.length()).lookingAt()) continue;
+
+            if (CAP_WORDS.matcher(before).find()) {
+                cap = Math.min(cap, value);
+            } else if (FLOOR_WORDS.matcher(before).find()) {
+                floor = Math.max(floor, value);
+            } else if (whicheverHigher) {
+                floor = Math.max(floor, value);
+            } else if (whicheverLower) {
+                cap = Math.min(cap, value);
+            } else {
+                flat = Math.max(flat, value); // A second plain amount is the top of a range
+            }
+        }
+        // 3. No percentage: a lone "upto Rs 10,000" / "min Rs 5,000" is the fee itself (at its upper end)
+        if (percent == 0 && flat == 0) {
+            flat = Double.isInfinite(cap) ? floor : cap;
+        }
+        return new Fee(percent, flat, floor, cap);
+    }
+
+    /**
+     * Fee = (amount x percent / 100 + flat), raised to the floor, then limited to the cap.
+     */
+    public record Fee(double percent, double flat, double floor, double cap) {
+        public static final Fee NONE = new Fee(0, 0, 0, Double.POSITIVE_INFINITY);
+    }
+
+    private static double unitMultiplier(String unit) {
+        if (unit == null) return 1;
+        if (unit.startsWith("cr")) return 1_00_00_000;
+        if (unit.startsWith("l")) return 1_00_000;
+        return 1_000; // k / thousand
+    }
+}
@@ -0,0 +1,93 @@
+package com.pryme.loan.utils;
+
+/**
+ * Keeps the k highest-scoring ids seen so far in a min-heap on two primitive arrays,
+ * so ranking n candidates costs O(n log k) and never sorts or boxes the whole set.
+ * Not thread-safe: give each worker its own heap and {@link #merge} them.
+ */
+public final class TopKHeap {
+
+    private final int capacity;
+    private final double[] scores;
+    private final long[] ids;
+    private int size;
+
+    public TopKHeap(int capacity) {
+        this.capacity = capacity;
+        this.scores = new double[capacity];
+        this.ids = new long[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Lowest score kept (the one the next candidate has to beat once full)
+    public double threshold() {
+        return size < capacity ? Double.NEGATIVE_INFINITY : scores[0];
+    }
+
+    public void offer(double score, long id) {
+        if (capacity == 0) return;
+        if (size < capacity) {
+            scores[size] = score;
+            ids[size] = id;
+            siftUp(size++);
+        } else if (score > scores[0]) {
+            scores[0] = score;
+            ids[0] = id;
+            siftDown(0);
+        }
+    }
+
+    public TopKHeap merge(TopKHeap other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.scores[i], other.ids[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Ids from best to worst. Drains the heap.
+     */
+    public long[] drainDescending() {
+        long[] sorted = new long[size];
+        for (int i = size - 1; i >= 0; i--) {
+            sorted[i] = ids[0];
+            size--;
+            scores[0] = scores[size];
+            ids[0] = ids[size];
+            siftDown(0);
+        }
+        return sorted;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (scores[parent] <= scores[i]) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) return;
+            int smallest = left + 1 < size && scores[left + 1] < scores[left] ? left + 1 : left;
+            if (scores[i] <= scores[smallest]) return;
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+    }
+}
@@ -0,0 +1,82 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.dto.AprComparisonRequest;
+import com.pryme.loan.dto.AprComparisonResponse;
+import com.pryme.loan.dto.ProductAprDto;
+import com.pryme.loan.entity.Bank;
+import com.pryme.loan.entity.LoanProduct;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AprComparisonServiceTest {
+
+    private final AprComparisonService service = new AprComparisonService(new LoanCatalogService(CatalogFixture.repository(List.of(
+            product(1, "10%", "Rs 60,000"),          // Flat fee above small loans
+            product(2, "11%", "1% (min Rs 5,000)"),  // Floor above tiny loans
+            product(3, "12%", "Rs 50,000"),          // Exactly a 50,000 loan
+            product(4, "13%", "Nil")))));
+
+    @Test
+    void feeAtOrAboveTheAmountIsNotComparable() {
+        AprComparisonResponse response = service.compare(request(50_000, 1));
+
+        assertEquals(List.of(4L, 2L), ids(response)); // 5,000 on a one-year 50,000 loan costs more than 2%
+        assertEquals(2, response.productsCompared());
+        assertEquals(2, response.productsNotComparable());
+        response.products().forEach(p -> assertTrue(Double.isFinite(p.apr()) && p.apr() >= p.interestRate(), p.toString()));
+    }
+
+    @Test
+    void floorAboveATinyLoanIsNotComparable() {
+        AprComparisonResponse response = service.compare(request(4_000, 1));
+
+        assertEquals(List.of(4L), ids(response));
+        assertEquals(3, response.productsNotComparable());
+    }
+
+    @Test
+    void capsAmountAndTenure() {
+        assertTrue(service.isValid(request(1_00_000, CalculatorLimits.MAX_TENURE_YEARS)));
+        assertFalse(service.isValid(request(1_00_000, CalculatorLimits.MAX_TENURE_YEARS + 1)));
+        assertFalse(service.isValid(request(1_00_000, 0)));
+
+        AprComparisonRequest huge = request(1, 5);
+        huge.setLoanAmount(CalculatorLimits.MAX_AMOUNT.add(BigDecimal.ONE));
+        assertFalse(service.isValid(huge));
+    }
+
+    private static LoanProduct product(long id, String rate, String fee) {
+        Bank bank = new Bank();
+        bank.setId(1L);
+        bank.setName("Bank 1");
+        bank.setActive(true);
+
+        LoanProduct product = new LoanProduct();
+        product.setId(id);
+        product.setBank(bank);
+        product.setType("Personal Loan");
+        product.setInterestRate(rate);
+        product.setProcessingFee(fee);
+        product.setTenure("1-5 Years");
+        product.setMaxAmount("50 Lakhs");
+        product.deriveNumericTerms();
+        return product;
+    }
+
+    private static AprComparisonRequest request(long amount, int years) {
+        AprComparisonRequest request = new AprComparisonRequest();
+        request.setLoanAmount(BigDecimal.valueOf(amount));
+        request.setTenureYears(years);
+        return request;
+    }
+
+    private static List<Long> ids(AprComparisonResponse response) {
+        return response.products().stream().map(ProductAprDto::productId).toList();
+    }
+}
@@ -0,0 +1,157 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.dto.BatchCalculationRequest;
+import com.pryme.loan.dto.BatchCalculationResponse;
+import com.pryme.loan.dto.EmiRequest;
+import com.pryme.loan.dto.PrePaymentRequest;
+import com.pryme.loan.dto.PrincipalSolveRequest;
+import com.pryme.loan.dto.TenureSolveRequest;
+import com.pryme.loan.service.impl.LoanSimulationServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Batch validation: one bad scenario rejects the batch before anything reaches the pool.
+ */
+class BatchCalculatorServiceTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+    private final BatchCalculatorService service =
+            new BatchCalculatorService(new LoanSimulationServiceImpl(), new LoanSolverService(), pool, 500);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void validBatchIsCalculatedInRequestOrder() {
+        BatchCalculationRequest request = validBatch();
+
+        assertTrue(service.isValid(request));
+        BatchCalculationResponse response = service.calculate(request);
+        assertEquals(20, response.getEmi().size());
+        assertEquals(20, response.getPrepayment().size());
+        assertTrue(response.getEmi().get(0).getMonthlyEmi() < response.getEmi().get(19).getMonthlyEmi());
+    }
+
+    @Test
+    void zeroRatePrepaymentIsAccepted() {
+        BatchCalculationRequest request = validBatch();
+        request.getPrepayment().get(3).setInterestRate(BigDecimal.ZERO);
+
+        assertTrue(service.isValid(request));
+    }
+
+    @Test
+    void prepaymentWithNullTenureRejectsTheBatch() {
+        BatchCalculationRequest request = validBatch();
+        request.getPrepayment().get(7).setTenureYears(null);
+
+        assertFalse(service.isValid(request));
+    }
+
+    @Test
+    void prepaymentWithNullAmountOrRateRejectsTheBatch() {
+        BatchCalculationRequest noAmount = validBatch();
+        noAmount.getPrepayment().get(0).setLoanAmount(null);
+        BatchCalculationRequest noRate = validBatch();
+        noRate.getPrepayment().get(19).setInterestRate(null);
+
+        assertFalse(service.isValid(noAmount));
+        assertFalse(service.isValid(noRate));
+    }
+
+    @Test
+    void oversizedTenureRejectsTheBatch() {
+        BatchCalculationRequest prepayment = validBatch();
+        prepayment.getPrepayment().get(5).setTenureYears(1_000_000);
+        BatchCalculationRequest emi = validBatch();
+        emi.getEmi().get(5).setTenureYears(1_000_000);
+        BatchCalculationRequest principal = validBatch();
+        principal.setPrincipal(List.of(principalSolve(25_000, 8.5, 41)));
+
+        assertFalse(service.isValid(prepayment));
+        assertFalse(service.isValid(emi));
+        assertFalse(service.isValid(principal));
+    }
+
+    @Test
+    void hugeAmountOrNullScenarioRejectsTheBatch() {
+        BatchCalculationRequest amount = validBatch();
+        amount.setTenure(List.of(tenureSolve(1e300, 8.5, 25_000)));
+        BatchCalculationRequest nullRow = validBatch();
+        nullRow.setEmi(Arrays.asList(emi(1_000_000, 8.5, 20), null));
+
+        assertFalse(service.isValid(amount));
+        assertFalse(service.isValid(nullRow));
+    }
+
+    @Test
+    void tooManyScenariosRejectTheBatch() {
+        BatchCalculationRequest request = new BatchCalculationRequest();
+        List<EmiRequest> emis = new ArrayList<>();
+        for (int i = 0; i < 501; i++) emis.add(emi(1_000_000, 8.5, 20));
+        request.setEmi(emis);
+
+        assertFalse(service.isValid(request));
+    }
+
+    private static BatchCalculationRequest validBatch() {
+        List<EmiRequest> emis = new ArrayList<>();
+        List<PrePaymentRequest> prepayments = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            emis.add(emi(1_000_000 + 100_000 * i, 8.5, 20));
+            prepayments.add(prepayment(2_000_000 + 100_000 * i, "8.5", 5 + i));
+        }
+        BatchCalculationRequest request = new BatchCalculationRequest();
+        request.setEmi(emis);
+        request.setPrepayment(prepayments);
+        request.setTenure(List.of(tenureSolve(2_000_000, 9, 25_000)));
+        request.setPrincipal(List.of(principalSolve(25_000, 9, 20)));
+        return request;
+    }
+
+    private static EmiRequest emi(double principal, double rate, int years) {
+        EmiRequest request = new EmiRequest();
+        request.setPrincipal(principal);
+        request.setAnnualRate(rate);
+        request.setTenureYears(years);
+        return request;
+    }
+
+    private static PrePaymentRequest prepayment(long amount, String rate, int years) {
+        PrePaymentRequest request = new PrePaymentRequest();
+        request.setLoanAmount(BigDecimal.valueOf(amount));
+        request.setInterestRate(new BigDecimal(rate));
+        request.setTenureYears(years);
+        request.setEnableStepUp(true);
+        return request;
+    }
+
+    private static TenureSolveRequest tenureSolve(double principal, double rate, double emi) {
+        TenureSolveRequest request = new TenureSolveRequest();
+        request.setPrincipal(principal);
+        request.setAnnualRate(rate);
+        request.setTargetEmi(emi);
+        return request;
+    }
+
+    private static PrincipalSolveRequest principalSolve(double emi, double rate, int years) {
+        PrincipalSolveRequest request = new PrincipalSolveRequest();
+        request.setTargetEmi(emi);
+        request.setAnnualRate(rate);
+        request.setTenureYears(years);
+        return request;
+    }
+}
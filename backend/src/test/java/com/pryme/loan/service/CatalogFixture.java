@@ -0,0 +1,76 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.entity.Bank;
+import com.pryme.loan.entity.LoanProduct;
+import com.pryme.loan.repository.LoanProductRepository;
+import org.springframework.beans.BeanUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Random but reproducible loan catalogs for the catalog, index and bucket tests: shared rates
+ * (ties), missing minimums, unreadable terms, inactive banks and rows not yet derived.
+ */
+final class CatalogFixture {
+
+    static final String[] TYPES = {"Personal Loan", "Home Loan", "Car Loan"};
+    private static final String[] RATES = {"8.5%", "8.75%", "9.5%", "10.5%", "10.5%", "12%", "14.25%", "Contact bank"};
+    private static final String[] FEES = {"1%", "0.5% (max Rs 10,000)", "Rs 999", "1% (min Rs 5,000)", "Nil", "2% + GST"};
+    private static final String[] TENURES = {"1-5 Years", "Up to 20 Years", "12-84 Months", "30 Years"};
+    private static final String[] AMOUNTS = {"50 Lakhs", "5 Crore", "10,00,000", "As per eligibility"};
+    private static final Integer[] MIN_CIBILS = {null, 0, 600, 650, 650, 700, 750, 800};
+    private static final Integer[] MIN_SALARIES = {null, 0, 15_000, 25_000, 25_000, 40_000, 75_000, 2_00_000};
+
+    private CatalogFixture() {}
+
+    static List<LoanProduct> products(long seed, int count) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Bank> banks = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            Bank bank = new Bank();
+            bank.setId(id);
+            bank.setName("Bank " + id);
+            bank.setActive(id != 6); // One inactive bank
+            banks.add(bank);
+        }
+
+        List<LoanProduct> products = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            LoanProduct product = new LoanProduct();
+            product.setId(id);
+            product.setBank(banks.get(random.nextInt(banks.size())));
+            product.setType(TYPES[random.nextInt(TYPES.length)]);
+            product.setInterestRate(RATES[random.nextInt(RATES.length)]);
+            product.setProcessingFee(FEES[random.nextInt(FEES.length)]);
+            product.setTenure(TENURES[random.nextInt(TENURES.length)]);
+            product.setMaxAmount(AMOUNTS[random.nextInt(AMOUNTS.length)]);
+            product.setMinCibil(MIN_CIBILS[random.nextInt(MIN_CIBILS.length)]);
+            Integer minSalary = MIN_SALARIES[random.nextInt(MIN_SALARIES.length)];
+            product.setMinSalary(minSalary != null ? BigDecimal.valueOf(minSalary) : null);
+            if (random.nextInt(5) != 0) {
+                product.deriveNumericTerms(); // The rest read their text terms, like rows saved before the columns
+            }
+            products.add(product);
+        }
+        return products;
+    }
+
+    // Every read returns fresh copies, like a new persistence context, so a cache that kept old rows shows up
+    static LoanProductRepository repository(List<LoanProduct> products) {
+        LoanProductRepository repository = mock(LoanProductRepository.class);
+        when(repository.findAllWithBank()).thenAnswer(invocation -> products.stream().map(CatalogFixture::copy).toList());
+        return repository;
+    }
+
+    static LoanProduct copy(LoanProduct product) {
+        LoanProduct copy = new LoanProduct();
+        BeanUtils.copyProperties(product, copy);
+        return copy;
+    }
+}
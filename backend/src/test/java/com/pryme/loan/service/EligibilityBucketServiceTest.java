@@ -0,0 +1,128 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.entity.LoanProduct;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Bucketed answers against a brute-force filter of the catalog, before and after product
+ * writes: each write evicts (and rebuilds) only the cells of the product's old and new terms,
+ * so a cell missed by the eviction would keep answering with the old catalog.
+ */
+class EligibilityBucketServiceTest {
+
+    private static final int[] CIBIL_SCORES = {0, 549, 550, 599, 600, 649, 650, 700, 749, 750, 799, 800, 900};
+    private static final int[] INCOMES = {0, 14_999, 15_000, 24_999, 25_000, 40_000, 74_999, 75_000,
+            1_49_999, 2_00_000, 5_00_000, 10_00_000};
+
+    private final List<LoanProduct> products = CatalogFixture.products(7L, 600);
+    private final LoanCatalogService catalog = new LoanCatalogService(CatalogFixture.repository(products));
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+    private final EligibilityBucketService buckets = new EligibilityBucketService(catalog, new CacheStatsRegistry(), pool, 5_000);
+
+    @BeforeEach
+    void buildCells() {
+        buckets.materializeAll();
+    }
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void matchesDirectScanAfterMaterialize() {
+        assertMatchesBruteForce();
+    }
+
+    @Test
+    void rateChangeReordersCells() {
+        LoanProduct product = cheapest("Home Loan");
+        update(product, p -> p.setInterestRate("13.9%"));
+
+        assertNotEquals(product.getId(), cheapest("Home Loan").getId());
+        assertMatchesBruteForce();
+    }
+
+    @Test
+    void raisingMinimumCibilRemovesProductFromLowerCells() {
+        update(product(p -> p.getMinCibil() == null || p.getMinCibil() == 0), p -> p.setMinCibil(780));
+        assertMatchesBruteForce();
+    }
+
+    @Test
+    void loweringMinimumSalaryAddsProductToLowerCells() {
+        update(product(p -> p.getMinSalary() != null && p.getMinSalary().intValue() >= 75_000), p -> p.setMinSalary(BigDecimal.valueOf(10_000)));
+        update(product(p -> p.getMinCibil() != null && p.getMinCibil() >= 750), p -> p.setMinCibil(null));
+        assertMatchesBruteForce();
+    }
+
+    @Test
+    void typeChangeMovesProductBetweenTypes() {
+        update(product(p -> "Car Loan".equals(p.getType())), p -> p.setType("Personal Loan"));
+        assertMatchesBruteForce();
+    }
+
+    // What AdminBankService does: save, drop the catalog, then the cells of the old and the new terms
+    private void update(LoanProduct product, Consumer<LoanProduct> change) {
+        String type = product.getType();
+        Integer minCibil = product.getMinCibil();
+        BigDecimal minSalary = product.getMinSalary();
+
+        change.accept(product);
+        product.deriveNumericTerms();
+        catalog.invalidate();
+        buckets.invalidate(type, minCibil, minSalary);
+        buckets.invalidate(product.getType(), product.getMinCibil(), product.getMinSalary());
+        pool.awaitQuiescence(10, TimeUnit.SECONDS); // Background rebuild of the evicted cells
+    }
+
+    private void assertMatchesBruteForce() {
+        for (String type : CatalogFixture.TYPES) {
+            for (int cibil : CIBIL_SCORES) {
+                for (int income : INCOMES) {
+                    assertEquals(ids(bruteForce(type, income, cibil)), ids(buckets.eligible(type, income, cibil)),
+                            type + " / " + cibil + " / " + income);
+                }
+            }
+        }
+    }
+
+    private List<LoanProduct> bruteForce(String type, double income, int cibil) {
+        return products.stream()
+                .filter(p -> p.getBank().isActive() && type.equals(p.getType()))
+                .filter(p -> (p.getMinSalary() != null ? p.getMinSalary().doubleValue() : 0) <= income)
+                .filter(p -> (p.getMinCibil() != null ? p.getMinCibil() : 0) <= cibil)
+                .sorted(Comparator.comparingDouble(EligibilityBucketServiceTest::rate).thenComparing(LoanProduct::getId))
+                .toList();
+    }
+
+    private LoanProduct cheapest(String type) {
+        return bruteForce(type, Double.MAX_VALUE, Integer.MAX_VALUE).get(0);
+    }
+
+    private LoanProduct product(Predicate<LoanProduct> filter) {
+        return products.stream().filter(p -> p.getBank().isActive()).filter(filter).findFirst().orElseThrow();
+    }
+
+    private static double rate(LoanProduct product) {
+        double rate = LoanCatalogSnapshot.annualRate(product);
+        return Double.isNaN(rate) ? Double.POSITIVE_INFINITY : rate;
+    }
+
+    private static List<Long> ids(List<LoanProduct> products) {
+        return products.stream().map(LoanProduct::getId).toList();
+    }
+}
@@ -0,0 +1,95 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.dto.FloatingRateSimulationRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Input bounds for the Monte Carlo endpoint: anything that would overflow the month count or
+ * keep the pool busy past the budget is rejected before simulating.
+ */
+class FloatingRateSimulationServiceTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+    private final FloatingRateSimulationService service = new FloatingRateSimulationService(pool, 10_000, 2_000);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void acceptsTypicalHomeLoan() {
+        assertTrue(service.isValid(request()));
+    }
+
+    @Test
+    void rejectsOversizedTenure() {
+        FloatingRateSimulationRequest huge = request();
+        huge.setTenureYears(1_000_000);
+        FloatingRateSimulationRequest justOver = request();
+        justOver.setTenureYears(CalculatorLimits.MAX_TENURE_YEARS + 1);
+        FloatingRateSimulationRequest atCap = request();
+        atCap.setTenureYears(CalculatorLimits.MAX_TENURE_YEARS);
+
+        assertFalse(service.isValid(huge));
+        assertFalse(service.isValid(justOver));
+        assertTrue(service.isValid(atCap));
+    }
+
+    @Test
+    void rejectsAmountAndRatesAboveTheSharedCaps() {
+        FloatingRateSimulationRequest amount = request();
+        amount.setLoanAmount(CalculatorLimits.MAX_AMOUNT.add(BigDecimal.ONE));
+        FloatingRateSimulationRequest rate = request();
+        rate.setInterestRate(new BigDecimal("100.01"));
+        FloatingRateSimulationRequest longRun = request();
+        longRun.setLongRunRate(new BigDecimal("1e6"));
+        FloatingRateSimulationRequest floor = request();
+        floor.setRateFloor(new BigDecimal("101"));
+
+        assertFalse(service.isValid(amount));
+        assertFalse(service.isValid(rate));
+        assertFalse(service.isValid(longRun));
+        assertFalse(service.isValid(floor));
+    }
+
+    @Test
+    void rejectsExtremeRateModel() {
+        FloatingRateSimulationRequest volatility = request();
+        volatility.setVolatility(new BigDecimal("500"));
+        FloatingRateSimulationRequest meanReversion = request();
+        meanReversion.setMeanReversionSpeed(new BigDecimal("1000"));
+        FloatingRateSimulationRequest negative = request();
+        negative.setVolatility(new BigDecimal("-1"));
+
+        assertFalse(service.isValid(volatility));
+        assertFalse(service.isValid(meanReversion));
+        assertFalse(service.isValid(negative));
+    }
+
+    @Test
+    void sameSeedGivesSameBands() {
+        FloatingRateSimulationRequest request = request();
+        request.setPaths(300);
+        request.setSeed(7L);
+
+        assertEquals(service.simulate(request), service.simulate(request));
+    }
+
+    private static FloatingRateSimulationRequest request() {
+        FloatingRateSimulationRequest request = new FloatingRateSimulationRequest();
+        request.setLoanAmount(new BigDecimal("5000000"));
+        request.setInterestRate(new BigDecimal("8.5"));
+        request.setTenureYears(20);
+        request.setEnableStepUp(true);
+        return request;
+    }
+}
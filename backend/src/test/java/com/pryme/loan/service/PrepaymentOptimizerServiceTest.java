@@ -0,0 +1,127 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.dto.LumpSumDto;
+import com.pryme.loan.dto.OptimizedStrategyDto;
+import com.pryme.loan.dto.PrepaymentOptimizationRequest;
+import com.pryme.loan.dto.PrepaymentOptimizationResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The pruned, parallel search against full enumeration: simulate every candidate to the end,
+ * keep the points nothing else beats on both extra paid and interest saved, and compare with
+ * the frontier the optimizer returns.
+ */
+class PrepaymentOptimizerServiceTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final PrepaymentOptimizerService service = new PrepaymentOptimizerService(pool);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void frontierMatchesExhaustiveSearch() {
+        // 11 extra levels x 11 step-up levels x 2^3 lump-sum subsets = 968 candidates (two leaves)
+        PrepaymentOptimizationRequest request = request("3000000", "9", 15, "100000", "5",
+                new LumpSumDto(24, new BigDecimal("200000")),
+                new LumpSumDto(60, new BigDecimal("500000")),
+                new LumpSumDto(61, new BigDecimal("50000")));
+
+        assertTrue(assertFrontierMatchesExhaustive(request).candidatesPruned() > 0);
+    }
+
+    @Test
+    void frontierMatchesExhaustiveSearchAcrossManyLeaves() {
+        // 11 x 9 x 2^5 = 3,168 candidates, split into seven leaves across the pool
+        PrepaymentOptimizationRequest request = request("5000000", "8.5", 20, "150000", "4",
+                new LumpSumDto(12, new BigDecimal("100000")),
+                new LumpSumDto(36, new BigDecimal("300000")),
+                new LumpSumDto(36, new BigDecimal("100000")),
+                new LumpSumDto(120, new BigDecimal("1000000")),
+                new LumpSumDto(239, new BigDecimal("25000")));
+
+        assertTrue(assertFrontierMatchesExhaustive(request).candidatesPruned() > 0);
+    }
+
+    @Test
+    void frontierMatchesExhaustiveSearchWithOneDimension() {
+        // Step-up only: the seed frontier already holds every candidate
+        assertFrontierMatchesExhaustive(request("2000000", "10", 10, null, "10"));
+    }
+
+    private PrepaymentOptimizationResponse assertFrontierMatchesExhaustive(PrepaymentOptimizationRequest request) {
+        PrepaymentOptimizationResponse response = service.optimize(request);
+        PrepaymentOptimizerService.SearchSpace space = PrepaymentOptimizerService.SearchSpace.of(request);
+
+        assertEquals(space.size(), response.candidatesEvaluated());
+        assertEquals(points(exhaustive(space)), points(response.paretoStrategies()));
+        return response;
+    }
+
+    // Every candidate simulated without pruning, then the non-dominated points (minus "do nothing")
+    private static List<OptimizedStrategyDto> exhaustive(PrepaymentOptimizerService.SearchSpace space) {
+        long[] out = new long[3];
+        space.simulate(0, 0, 0, null, 0, out);
+        long regularInterest = out[0];
+
+        int lumpBits = space.lumpMonths.length;
+        int candidates = space.size();
+        long[] extra = new long[candidates];
+        long[] saved = new long[candidates];
+        for (int c = 0; c < candidates; c++) {
+            int rest = c >>> lumpBits;
+            space.simulate(rest / space.stepUpFactors.length, rest % space.stepUpFactors.length,
+                    c & ((1 << lumpBits) - 1), null, regularInterest, out);
+            extra[c] = out[1];
+            saved[c] = regularInterest - out[0];
+        }
+
+        List<Integer> frontier = new ArrayList<>();
+        for (int c = 0; c < candidates; c++) {
+            if (extra[c] == 0) continue;
+            boolean dominated = false;
+            for (int d = 0; d < candidates && !dominated; d++) {
+                boolean samePoint = extra[d] == extra[c] && saved[d] == saved[c];
+                dominated = samePoint ? d < c : extra[d] <= extra[c] && saved[d] >= saved[c];
+            }
+            if (!dominated) frontier.add(c);
+        }
+        frontier.sort(Comparator.comparingLong(c -> extra[c]));
+
+        List<OptimizedStrategyDto> strategies = new ArrayList<>();
+        for (int c : frontier) {
+            strategies.add(space.describe(c, regularInterest, out));
+        }
+        assertTrue(strategies.size() > 1, "grid should have a real trade-off");
+        return strategies;
+    }
+
+    // Tied candidates are interchangeable, so compare what each point costs and saves
+    private static List<String> points(List<OptimizedStrategyDto> strategies) {
+        return strategies.stream().map(s -> s.extraPaid().toPlainString() + " / " + s.interestSaved().toPlainString()).toList();
+    }
+
+    private static PrepaymentOptimizationRequest request(String amount, String rate, int years, String maxExtra,
+                                                         String maxStepUp, LumpSumDto... lumpSums) {
+        PrepaymentOptimizationRequest request = new PrepaymentOptimizationRequest();
+        request.setLoanAmount(new BigDecimal(amount));
+        request.setInterestRate(new BigDecimal(rate));
+        request.setTenureYears(years);
+        request.setMaxExtraPerYear(maxExtra != null ? new BigDecimal(maxExtra) : null);
+        request.setMaxStepUpPercent(new BigDecimal(maxStepUp));
+        request.setLumpSums(List.of(lumpSums));
+        return request;
+    }
+}
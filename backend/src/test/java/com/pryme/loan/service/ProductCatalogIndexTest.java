@@ -0,0 +1,87 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.entity.LoanProduct;
+import com.pryme.loan.repository.LoanProductRepository;
+import com.pryme.loan.utils.LoanTermsParser;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * The catalog index against what the repository query used to return, over a grid of type,
+ * CIBIL score and income: same products, in numeric rate order (ties by id). Differences the
+ * index makes on purpose are applied to the reference: inactive banks are left out, and a
+ * missing minimum means no minimum (SQL dropped those rows).
+ */
+class ProductCatalogIndexTest {
+
+    private static final int[] CIBIL_SCORES = {0, 599, 600, 649, 650, 700, 749, 750, 799, 800, 900};
+    private static final int[] INCOMES = {0, 14_999, 15_000, 24_999, 25_000, 40_000, 74_999, 75_000, 1_99_999, 2_00_000, 10_00_000};
+
+    private final List<LoanProduct> products = CatalogFixture.products(20240601L, 2_000);
+    private final LoanProductRepository repository = CatalogFixture.repository(products);
+    private final LoanCatalogService catalog = new LoanCatalogService(repository);
+
+    @Test
+    void indexMatchesRepositoryQueryOverGrid() {
+        int matched = 0;
+        for (String type : CatalogFixture.TYPES) {
+            for (int cibil : CIBIL_SCORES) {
+                for (int income : INCOMES) {
+                    List<LoanProduct> expected = repositoryQuery(type, BigDecimal.valueOf(income), cibil);
+                    List<LoanProduct> actual = catalog.index().eligible(type, income, cibil);
+
+                    assertEquals(ids(expected), ids(actual), type + " / " + cibil + " / " + income);
+                    matched += expected.size();
+                }
+            }
+        }
+        assertTrue(matched > 10_000, "grid should exercise real results, got " + matched);
+    }
+
+    @Test
+    void unknownTypeFindsNothing() {
+        assertEquals(List.of(), catalog.index().eligible("Gold Loan", 10_00_000, 900));
+    }
+
+    @Test
+    void indexAndSnapshotAreBuiltFromOneReadWithBanks() {
+        catalog.index().eligible("Home Loan", 50_000, 750);
+        catalog.current();
+
+        verify(repository, times(1)).findAllWithBank();
+        verify(repository, never()).findAll();
+        verify(repository, never()).findByTypeAndMinSalaryLessThanEqualAndMinCibilLessThanEqual(anyString(), any(), anyInt());
+    }
+
+    // findByTypeAndMinSalaryLessThanEqualAndMinCibilLessThanEqual, sorted by numeric rate
+    private List<LoanProduct> repositoryQuery(String type, BigDecimal income, int cibil) {
+        return products.stream()
+                .filter(p -> p.getBank().isActive())
+                .filter(p -> type.equals(p.getType()))
+                .filter(p -> p.getMinSalary() == null || p.getMinSalary().compareTo(income) <= 0)
+                .filter(p -> p.getMinCibil() == null || p.getMinCibil() <= cibil)
+                .sorted(Comparator.comparingDouble(ProductCatalogIndexTest::rate).thenComparing(LoanProduct::getId))
+                .toList();
+    }
+
+    private static double rate(LoanProduct product) {
+        double rate = LoanTermsParser.parseRate(product.getInterestRate());
+        return Double.isNaN(rate) ? Double.POSITIVE_INFINITY : rate;
+    }
+
+    private static List<Long> ids(List<LoanProduct> products) {
+        return products.stream().map(LoanProduct::getId).toList();
+    }
+}
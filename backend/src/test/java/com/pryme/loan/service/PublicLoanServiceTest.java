@@ -0,0 +1,210 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.controller.PublicLoanController;
+import com.pryme.loan.dto.PublicLoanPageResponse;
+import com.pryme.loan.dto.PublicLoanProductDto;
+import com.pryme.loan.dto.PublicLoanQuery;
+import com.pryme.loan.entity.Bank;
+import com.pryme.loan.entity.LoanProduct;
+import com.pryme.loan.repository.BankRepository;
+import com.pryme.loan.repository.LoanProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Keyset pagination of the filtered public catalog on a real (in-memory) database: for every
+ * page size, walking the pages must give the one fully sorted list, readable sort terms first
+ * and then the unreadable tail by id, with nothing repeated or skipped.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+class PublicLoanServiceTest {
+
+    private static final String[] TYPES = {"Personal Loan", "Home Loan"};
+    private static final String[] RATES = {"8.5%", "8.5%", "9%", "10.25%", "10.25%", "Contact bank"};
+    // Ties on the percentage with different flat parts, and ties on both
+    private static final String[] FEES = {"1%", "1%", "1% + Rs 999", "Rs 999", "0.5%", "Rs 500 + 0.5%", "Rs 500", "Nil"};
+    private static final int PRODUCTS = 41;
+
+    @Autowired private LoanProductRepository loanProductRepository;
+    @Autowired private BankRepository bankRepository;
+    @Autowired private EntityManager entityManager;
+
+    private PublicLoanService service;
+
+    @BeforeEach
+    void seedCatalog() {
+        service = new PublicLoanService(loanProductRepository, bankRepository);
+
+        List<Bank> banks = new ArrayList<>();
+        for (String name : new String[]{"HDFC Bank", "Axis Bank", "Kotak Bank"}) {
+            Bank bank = new Bank();
+            bank.setName(name);
+            banks.add(bankRepository.save(bank));
+        }
+
+        SplittableRandom random = new SplittableRandom(11);
+        List<Long> legacy = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            LoanProduct product = new LoanProduct();
+            product.setBank(banks.get(random.nextInt(banks.size())));
+            product.setType(TYPES[random.nextInt(TYPES.length)]);
+            product.setInterestRate(RATES[random.nextInt(RATES.length)]);
+            product.setProcessingFee(FEES[random.nextInt(FEES.length)]);
+            product.setMaxAmount("50 Lakhs");
+            product.setTenure("1-5 Years");
+            Long id = loanProductRepository.save(product).getId();
+            if (random.nextInt(6) == 0) legacy.add(id);
+        }
+
+        // Rows saved before the numeric columns existed: every sort term unreadable
+        entityManager.flush();
+        entityManager.createQuery("update LoanProduct p set p.rateBps = null, p.feeBps = null, p.feeFlatPaise = null where p.id in :ids")
+                .setParameter("ids", legacy)
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    @Test
+    void fixtureHasTiesAndAnUnreadableTail() {
+        List<LoanProduct> all = loanProductRepository.findAll();
+        assertTrue(all.stream().anyMatch(p -> p.getRateBps() == null), "unreadable rates");
+        assertTrue(all.stream().anyMatch(p -> p.getFeeBps() == null), "unreadable fees");
+        assertTrue(all.stream().filter(p -> p.getFeeBps() != null).map(p -> p.getFeeBps() + "|" + p.getFeeFlatPaise())
+                .distinct().count() < all.stream().filter(p -> p.getFeeBps() != null).count(), "fee ties");
+    }
+
+    @Test
+    void everyPageSizeGivesTheFullRateOrder() {
+        List<Long> expected = sorted(loanProductRepository.findAll(), LoanProduct::getRateBps, null);
+        for (int limit = 1; limit <= PRODUCTS + 1; limit++) {
+            assertEquals(expected, pageThrough("rate", null, limit), "rate, limit " + limit);
+        }
+    }
+
+    @Test
+    void everyPageSizeGivesTheFullFeeOrder() {
+        // Percentage, then flat part, then id
+        List<Long> expected = sorted(loanProductRepository.findAll(), LoanProduct::getFeeBps, LoanProduct::getFeeFlatPaise);
+        for (int limit = 1; limit <= PRODUCTS + 1; limit++) {
+            assertEquals(expected, pageThrough("fee", null, limit), "fee, limit " + limit);
+        }
+    }
+
+    @Test
+    void filteredPagesStayInsideTheFilter() {
+        List<LoanProduct> homeLoans = loanProductRepository.findAll().stream().filter(p -> "Home Loan".equals(p.getType())).toList();
+        List<Long> byRate = sorted(homeLoans, LoanProduct::getRateBps, null);
+        List<Long> byFee = sorted(homeLoans, LoanProduct::getFeeBps, LoanProduct::getFeeFlatPaise);
+        for (int limit = 1; limit <= homeLoans.size() + 1; limit++) {
+            assertEquals(byRate, pageThrough("rate", "Home Loan", limit), "rate, limit " + limit);
+            assertEquals(byFee, pageThrough("fee", "Home Loan", limit), "fee, limit " + limit);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "%%%not-base64",
+            "cmF0ZXxhYmN8NQ",   // rate|abc|5
+            "ZmVlfDEwMHw1",     // fee|100|5 (fee needs two keys)
+            "cmF0ZXwxfDJ8Mw",   // rate|1|2|3 (rate has one)
+            "cmF0ZQ",           // rate
+            "",
+    })
+    void malformedCursorIsBadRequest(String cursor) {
+        assertEquals(HttpStatus.BAD_REQUEST, get(query("rate", null, cursor, 5)).getStatusCode());
+    }
+
+    @Test
+    void cursorFromAnotherSortIsBadRequest() {
+        String feeCursor = service.searchLoans(query("fee", null, null, 3)).nextCursor();
+        assertNotNull(feeCursor);
+
+        assertFalse(service.isValid(query("rate", null, feeCursor, 3)));
+        assertEquals(HttpStatus.BAD_REQUEST, get(query("rate", null, feeCursor, 3)).getStatusCode());
+        assertEquals(HttpStatus.OK, get(query("fee", null, feeCursor, 3)).getStatusCode());
+    }
+
+    @Test
+    void forgedOutOfRangeCursorSkipsToTheUnreadableTail() {
+        // Past every readable rate (and beyond an int column): only the unreadable rows are left
+        String forged = encode("rate|99999999999|" + Long.MAX_VALUE);
+        List<Long> tail = loanProductRepository.findAll().stream().filter(p -> p.getRateBps() == null)
+                .map(LoanProduct::getId).sorted().limit(5).toList();
+
+        assertTrue(service.isValid(query("rate", null, forged, 5)));
+        PublicLoanPageResponse page = service.searchLoans(query("rate", null, forged, 5));
+        assertEquals(tail, page.products().stream().map(PublicLoanProductDto::id).toList());
+    }
+
+
+    private List<Long> pageThrough(String sort, String type, int limit) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            PublicLoanQuery query = query(sort, type, cursor, limit);
+            assertTrue(service.isValid(query));
+            PublicLoanPageResponse page = service.searchLoans(query);
+            assertTrue(page.products().size() <= limit);
+            page.products().stream().map(PublicLoanProductDto::id).forEach(ids::add);
+            cursor = page.nextCursor();
+            assertTrue(++pages <= PRODUCTS + 1, "pagination does not end");
+        } while (cursor != null);
+
+        assertEquals(ids.size(), new HashSet<>(ids).size(), "duplicates at limit " + limit);
+        return ids;
+    }
+
+    // Readable keys ascending (ties by id), then the rows whose first key is null, by id
+    private static List<Long> sorted(List<LoanProduct> products, Function<LoanProduct, Number> first, Function<LoanProduct, Number> second) {
+        Comparator<LoanProduct> order = Comparator.comparingLong(p -> first.apply(p).longValue());
+        if (second != null) order = order.thenComparingLong(p -> second.apply(p).longValue());
+        order = order.thenComparing(LoanProduct::getId);
+
+        List<Long> ids = new ArrayList<>();
+        products.stream().filter(p -> first.apply(p) != null).sorted(order).map(LoanProduct::getId).forEach(ids::add);
+        products.stream().filter(p -> first.apply(p) == null).map(LoanProduct::getId).sorted().forEach(ids::add);
+        return ids;
+    }
+
+    private ResponseEntity<?> get(PublicLoanQuery query) {
+        return new PublicLoanController(service, null).getAllLoans(query, null);
+    }
+
+    private static PublicLoanQuery query(String sort, String type, String cursor, int limit) {
+        PublicLoanQuery query = new PublicLoanQuery();
+        query.setSort(sort);
+        query.setType(type);
+        query.setCursor(cursor);
+        query.setLimit(limit);
+        return query;
+    }
+
+    private static String encode(String cursor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,109 @@
+package com.pryme.loan.service;
+
+import com.pryme.loan.dto.RewardPortfolioRequest;
+import com.pryme.loan.entity.CreditCardReward;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RewardPortfolioServiceTest {
+
+    @Test
+    void acceptsFeesAndCapsInRange() {
+        RewardPortfolioService service = service(3);
+
+        RewardPortfolioRequest request = request();
+        request.setAnnualFees(Map.of(1L, 0.0, 2L, RewardPortfolioService.MAX_ANNUAL_FEE));
+        request.setRewardCaps(Map.of(1L, 0.0, 3L, 5_000.0));
+        assertTrue(service.isValid(request));
+        assertEquals(3, service.optimize(request).candidateCards()); // Capped, so nothing is pruned
+    }
+
+    @Test
+    void rejectsNegativeHugeOrMissingFees() {
+        RewardPortfolioService service = service(3);
+
+        for (Double fee : new Double[]{-1.0, RewardPortfolioService.MAX_ANNUAL_FEE + 1, Double.NaN, Double.POSITIVE_INFINITY, null}) {
+            RewardPortfolioRequest request = request();
+            Map<Long, Double> fees = new HashMap<>();
+            fees.put(1L, fee);
+            request.setAnnualFees(fees);
+            assertFalse(service.isValid(request), "fee " + fee);
+        }
+    }
+
+    @Test
+    void rejectsNegativeHugeOrMissingCaps() {
+        RewardPortfolioService service = service(3);
+
+        for (Double cap : new Double[]{-1.0, 1e13, Double.NaN, null}) {
+            RewardPortfolioRequest request = request();
+            Map<Long, Double> caps = new HashMap<>();
+            caps.put(2L, cap);
+            request.setRewardCaps(caps);
+            assertFalse(service.isValid(request), "cap " + cap);
+        }
+    }
+
+    @Test
+    void rejectsNaNOrHugeSpend() {
+        RewardPortfolioService service = service(3);
+
+        RewardPortfolioRequest nan = request();
+        nan.setAnnualTravelSpend(Double.NaN);
+        assertFalse(service.isValid(nan));
+
+        RewardPortfolioRequest huge = request();
+        huge.setAnnualOtherSpend(1e13);
+        assertFalse(service.isValid(huge));
+    }
+
+    @Test
+    void rejectsMoreCardsThanTheEncodingHolds() {
+        assertTrue(service(RewardPortfolioService.MAX_CANDIDATES).isValid(request()));
+        assertFalse(service(RewardPortfolioService.MAX_CANDIDATES + 1).isValid(request()));
+    }
+
+    @Test
+    void encodingRoundTripsTheLastIndex() {
+        int last = RewardPortfolioService.MAX_CANDIDATES - 1;
+        int[] combo = {last, 0, last - 1};
+
+        assertArrayEquals(combo, RewardPortfolioService.decode(RewardPortfolioService.encode(combo, 3)));
+    }
+
+    private static RewardPortfolioService service(int cards) {
+        List<CreditCardReward> rows = new ArrayList<>(cards);
+        for (long id = 1; id <= cards; id++) {
+            CreditCardReward card = new CreditCardReward();
+            card.setId(id);
+            card.setCardName("Card " + id);
+            card.setDiningMultiplier(id % 5);
+            card.setTravelMultiplier((id * 7) % 5);
+            card.setPointValue(0.25);
+            rows.add(card);
+        }
+        RewardService rewardService = mock(RewardService.class);
+        when(rewardService.currentSnapshot()).thenReturn(RewardCardSnapshot.of(rows));
+        return new RewardPortfolioService(rewardService, ForkJoinPool.commonPool());
+    }
+
+    private static RewardPortfolioRequest request() {
+        RewardPortfolioRequest request = new RewardPortfolioRequest();
+        request.setAnnualDiningSpend(60_000);
+        request.setAnnualTravelSpend(1_20_000);
+        request.setAnnualOtherSpend(3_00_000);
+        return request;
+    }
+}
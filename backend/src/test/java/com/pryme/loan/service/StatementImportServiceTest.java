@@ -0,0 +1,215 @@
+package com.pryme.loan.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static com.pryme.loan.service.StatementImportService.DINING;
+import static com.pryme.loan.service.StatementImportService.OTHER;
+import static com.pryme.loan.service.StatementImportService.TRAVEL;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Statement samples shaped like real bank exports (account numbers and references made up).
+ */
+class StatementImportServiceTest {
+
+    @Test
+    void readsSavingsAccountExportWithWithdrawalColumn() throws IOException {
+        // HDFC-style: account details above the header, separate withdrawal / deposit columns
+        String csv = """
+                HDFC BANK Ltd.
+                Account No : XXXXXXXX1234
+                ,
+                Date,Narration,Chq./Ref.No.,Value Dt,Withdrawal Amt.,Deposit Amt.,Closing Balance
+                01/04/24,UPI-SWIGGY-swiggy@icici-ICIC0000001,0000412345678901,01/04/24,450.00,,"1,20,550.00"
+                02/04/24,POS 4321XXXXXX1234 MAKEMYTRIP INDIA,0000000000000000,02/04/24,"12,500.00",,"1,08,050.00"
+                03/04/24,NEFT CR-SALARY ACME CORP,N093240000123,03/04/24,,"85,000.00","1,93,050.00"
+                05/04/24,POS 4321XXXXXX1234 BIGBASKET,0000000000000000,05/04/24,"2,310.50",,"1,90,739.50"
+                """;
+
+        StatementImportService.StatementTotals totals = read(csv);
+
+        assertSpend(totals, 450, 12_500, 2_310.50);
+        assertEquals(3, totals.transactions());
+        assertEquals(0, totals.skipped);
+    }
+
+    @Test
+    void readsCardExportWithDrCrSuffix() throws IOException {
+        // ICICI-style credit card: one amount column, direction after the number
+        String csv = """
+                Transaction Date,Details,Amount (INR),Reference Number
+                12/03/2024,ZOMATO ONLINE ORDER GURGAON,"1,250.00 Dr",74332
+                13/03/2024,INDIGO AIRLINES,"8,420.00 Dr",74333
+                15/03/2024,PAYMENT RECEIVED - THANK YOU,"20,000.00 Cr",74334
+                16/03/2024,AMAZON PAY INDIA,"999.00 Dr",74335
+                17/03/2024,PUBG MOBILE UC,"399.00 Dr",74336
+                18/03/2024,BROKEN ROW
+                """;
+
+        StatementImportService.StatementTotals totals = read(csv);
+
+        assertSpend(totals, 1_250, 8_420, 999 + 399);
+        assertEquals(4, totals.transactions());
+        assertEquals(1, totals.skipped);
+    }
+
+    @Test
+    void signedAmountsTakeTheMoreCommonSignAsPurchases() throws IOException {
+        String csv = """
+                Date,Description,Amount
+                2024-02-01,UBER TRIP BANGALORE,-320.50
+                2024-02-02,STARBUCKS COFFEE,-275.00
+                2024-02-03,ONLINE PAYMENT THANK YOU,5000.00
+                2024-02-04,KITCHENWARE STORE,-1200.00
+                """;
+
+        StatementImportService.StatementTotals totals = read(csv);
+
+        assertSpend(totals, 275, 320.50, 1_200);
+        assertEquals(3, totals.transactions());
+    }
+
+    @Test
+    void readsSemicolonExportWithTypeColumnAndQuotedSeparators() throws IOException {
+        String csv = """
+                Posting Date;Merchant;Type;Amount
+                "2024-01-05";"Domino's Pizza; Indiranagar";"Debit";"649.00"
+                "2024-01-06";"Refund ""OYO"" booking";"Credit";"1,499.00"
+                "2024-01-07";"OYO Rooms";"Debit";"1,499.00"
+                """;
+
+        StatementImportService.StatementTotals totals = read(csv);
+
+        assertSpend(totals, 649, 1_499, 0);
+        assertEquals(2, totals.transactions());
+    }
+
+    @Test
+    void readsSgmlOfx() throws IOException {
+        String ofx = """
+                OFXHEADER:100
+                DATA:OFXSGML
+                VERSION:102
+
+                <OFX>
+                <BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <DTPOSTED>20240301
+                <TRNAMT>-1250.00
+                <FITID>2024030101
+                <NAME>SWIGGY BANGALORE
+                </STMTTRN>
+                <STMTTRN><TRNTYPE>POS<TRNAMT>-3400.00<NAME>IRCTC E-TICKET<MEMO>PNR 4521</STMTTRN>
+                <STMTTRN>
+                <TRNTYPE>CREDIT
+                <TRNAMT>50000.00
+                <NAME>SALARY ACME CORP
+                </STMTTRN>
+                <STMTTRN>
+                <TRNTYPE>DEBIT
+                <TRNAMT>n/a
+                <NAME>UNREADABLE
+                </STMTTRN>
+                </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1>
+                </OFX>
+                """;
+
+        StatementImportService.StatementTotals totals = read(ofx);
+
+        assertSpend(totals, 1_250, 3_400, 0);
+        assertEquals(2, totals.transactions());
+        assertEquals(1, totals.skipped);
+    }
+
+    @Test
+    void rejectsStatementsWithoutHeaderOrTransactions() {
+        assertThrows(IllegalArgumentException.class, () -> read("\n\n"));
+        assertThrows(IllegalArgumentException.class, () -> read("Date,Reference\n01/01/24,123\n"));
+        assertThrows(IllegalArgumentException.class, () -> read("OFXHEADER:100\n<OFX></OFX>\n"));
+    }
+
+    @Test
+    void splitsQuotedFields() {
+        String line = "a,\"b,c\",\"say \"\"hi\"\"\",";
+        int[] starts = new int[8];
+        int[] ends = new int[8];
+
+        int fields = StatementImportService.split(line, ',', starts, ends);
+
+        assertEquals(4, fields);
+        assertEquals("a", line.substring(starts[0], ends[0]));
+        assertEquals("b,c", line.substring(starts[1], ends[1]));
+        assertEquals("say \"\"hi\"\"", line.substring(starts[2], ends[2])); // "" left as is
+        assertEquals("", line.substring(starts[3], ends[3]));
+    }
+
+    @Test
+    void splitStopsWhenTheArraysAreFull() {
+        int[] starts = new int[2];
+        int[] ends = new int[2];
+
+        assertEquals(2, StatementImportService.split("a,b,c,d", ',', starts, ends));
+        assertArrayEquals(new int[]{0, 2}, starts);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "1,23,456.78                  | 123456.78",
+            "-450                         | -450",
+            "(450.00)                     | -450",
+            "₹ 1,200 Dr                   | 1200",
+            "12.3456789                   | 12.345678",
+            "000000000000000000012.50     | 12.5",
+            "999999999999999              | 999999999999999",
+            "Rs. 1,200.00                 | 1200",
+            "Rs.450                       | 450",
+            "INR. 450                     | 450",
+            "450.                         | 450",
+    })
+    void parsesAmounts(String text, double expected) {
+        assertEquals(expected, StatementImportService.parseAmount(text, 0, text.length()), 1e-9);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {"''", "Dr", "n/a", "1234567890123456", "99999999999999999999.00"})
+    void unreadableAmountsAreNaN(String text) {
+        assertTrue(Double.isNaN(StatementImportService.parseAmount(text, 0, text.length())));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "1,250.00 Dr | 1",
+            "5,000.00 CR | -1",
+            "Debit       | 1",
+            "credit      | -1",
+            "D           | 1",
+            "C           | -1",
+            "DR.         | 1",
+            "450.00      | 0",
+            "Card        | 0",
+    })
+    void readsDirectionFromTheLastWord(String text, int expected) {
+        assertEquals(expected, StatementImportService.direction(text, 0, text.length()));
+    }
+
+    private static StatementImportService.StatementTotals read(String statement) throws IOException {
+        return StatementImportService.read(new BufferedReader(new StringReader(statement)));
+    }
+
+    private static void assertSpend(StatementImportService.StatementTotals totals, double dining, double travel, double other) {
+        double[] spend = totals.purchases();
+        assertEquals(dining, spend[DINING], 1e-6, "dining");
+        assertEquals(travel, spend[TRAVEL], 1e-6, "travel");
+        assertEquals(other, spend[OTHER], 1e-6, "other");
+    }
+}
@@ -0,0 +1,82 @@
+package com.pryme.loan.service.impl;
+
+import com.pryme.loan.dto.PrePaymentRequest;
+import com.pryme.loan.dto.PrePaymentResponse;
+import com.pryme.loan.service.LoanSimulationService;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Differential test: random inputs through the BigDecimal engine and each alternative engine.
+ * Rounded outputs must agree within one rupee and the payoff month must be identical.
+ *
+ * Default run is sized for the normal build. For the full sweep:
+ *   mvn test -Dtest=LoanSimulationEngineDifferentialTest -Dsimulation.diff.iterations=2000000
+ */
+class LoanSimulationEngineDifferentialTest {
+
+    private static final int ITERATIONS = Integer.getInteger("simulation.diff.iterations", 5_000);
+    private static final long SEED = Long.getLong("simulation.diff.seed", 20240601L);
+
+    private final LoanSimulationServiceImpl reference = new LoanSimulationServiceImpl();
+
+    static Stream<LoanSimulationService> engines() {
+        return Stream.of(new FixedPointLoanSimulationServiceImpl(), new YearSteppingLoanSimulationServiceImpl());
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    void matchesBigDecimalEngineOnRandomInputs(LoanSimulationService engine) {
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            PrePaymentRequest request = new PrePaymentRequest();
+            request.setLoanAmount(BigDecimal.valueOf(random.nextLong(10_000_00L, 10_00_00_000_00L), 2)); // 10k to 10 Cr
+            request.setInterestRate(BigDecimal.valueOf(random.nextInt(0, 2_001), 2)); // 0% to 20%
+            request.setTenureYears(random.nextInt(1, 31));
+            request.setEnable13thEmi(random.nextBoolean());
+            request.setEnableStepUp(random.nextBoolean());
+
+            assertClose(reference.calculatePrePaymentSavings(request), engine.calculatePrePaymentSavings(request), request);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    void matchesBigDecimalEngineOnMonsterStrategy(LoanSimulationService engine) {
+        // The ManualTestRunner default: 50 L at 8.5% for 20 years, both strategies on
+        PrePaymentRequest request = new PrePaymentRequest();
+        request.setLoanAmount(new BigDecimal("5000000"));
+        request.setInterestRate(new BigDecimal("8.5"));
+        request.setTenureYears(20);
+        request.setEnable13thEmi(true);
+        request.setEnableStepUp(true);
+
+        assertClose(reference.calculatePrePaymentSavings(request), engine.calculatePrePaymentSavings(request), request);
+    }
+
+    private static void assertClose(PrePaymentResponse expected, PrePaymentResponse actual, PrePaymentRequest request) {
+        String input = request.getLoanAmount() + " @ " + request.getInterestRate() + "% x " + request.getTenureYears()
+                + "y, 13th=" + request.isEnable13thEmi() + ", stepUp=" + request.isEnableStepUp();
+
+        assertEquals(expected.getRegularEmi(), actual.getRegularEmi(), input);
+        assertEquals(expected.getRegularTotalInterest(), actual.getRegularTotalInterest(), input);
+        assertEquals(expected.getNewMonths(), actual.getNewMonths(), input);
+        assertEquals(expected.getMonthsSaved(), actual.getMonthsSaved(), input);
+        assertWithinOneRupee(expected.getNewTotalInterest(), actual.getNewTotalInterest(), "newTotalInterest " + input);
+        assertWithinOneRupee(expected.getInterestSaved(), actual.getInterestSaved(), "interestSaved " + input);
+        assertWithinOneRupee(expected.getLastYearEmi(), actual.getLastYearEmi(), "lastYearEmi " + input);
+    }
+
+    private static void assertWithinOneRupee(BigDecimal expected, BigDecimal actual, String message) {
+        assertTrue(expected.subtract(actual).abs().compareTo(BigDecimal.ONE) <= 0,
+                message + ": expected " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,52 @@
+package com.pryme.loan.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeywordMatcherTest {
+
+    private static final int OLA = 1, OLA_ELECTRIC = 2, PUB = 3, UBER = 4, UBER_EATS = 5;
+
+    private final KeywordMatcher matcher = new KeywordMatcher(Map.of(
+            "ola", OLA, "ola electric", OLA_ELECTRIC, "pub", PUB, "uber", UBER, "Uber Eats", UBER_EATS));
+
+    @Test
+    void matchesWholeWordsOnly() {
+        assertEquals(OLA, match("OLA CABS BANGALORE"));
+        assertEquals(PUB, match("THE BEER PUB, KORAMANGALA"));
+        assertEquals(KeywordMatcher.NO_MATCH, match("COCA COLA"));      // Not at a word start
+        assertEquals(KeywordMatcher.NO_MATCH, match("OLAF STORES"));    // Not at a word end
+        assertEquals(KeywordMatcher.NO_MATCH, match("PUBLIC PARKING"));
+        assertEquals(KeywordMatcher.NO_MATCH, match("PUBG MOBILE UC"));
+        assertEquals(KeywordMatcher.NO_MATCH, match("OLA2 RIDES"));
+    }
+
+    @Test
+    void longestKeywordWins() {
+        assertEquals(UBER_EATS, match("UBER EATS ORDER 8823"));
+        assertEquals(OLA_ELECTRIC, match("OLA ELECTRIC MOBILITY"));
+        assertEquals(UBER, match("UBER*TRIP HELP.UBER.COM"));
+        assertEquals(UBER, match("UBER EATSWELL")); // "uber eats" is not a whole word here
+    }
+
+    @Test
+    void respectsTheRangeAndNonAsciiSeparators() {
+        assertEquals(OLA, matcher.match("XXOLA CABS", 2, 10)); // Range start is a word start
+        assertEquals(OLA, matcher.match("OLAF", 0, 3));        // Range end is a word end
+        assertEquals(OLA, match("₹OLA"));
+        assertEquals(KeywordMatcher.NO_MATCH, match(""));
+    }
+
+    @Test
+    void rejectsNonAsciiKeywords() {
+        assertThrows(IllegalArgumentException.class, () -> new KeywordMatcher(Map.of("café", 1)));
+    }
+
+    private int match(String text) {
+        return matcher.match(text, 0, text.length());
+    }
+}
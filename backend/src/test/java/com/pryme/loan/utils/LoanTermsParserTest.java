@@ -0,0 +1,59 @@
+package com.pryme.loan.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Processing fee strings as admins actually type them, split into percentage / flat / floor / cap.
+ */
+class LoanTermsParserTest {
+
+    private static final double NO_CAP = Double.POSITIVE_INFINITY;
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            // text                                   | percent | flat | floor | cap
+            "1%                                       | 1       | 0    | 0     | Infinity",
+            "0.5% - 1%                                | 1       | 0    | 0     | Infinity",
+            "0.5 to 1%                                | 1       | 0    | 0     | Infinity",
+            "Up to 2%                                 | 2       | 0    | 0     | Infinity",
+            "1% + GST                                 | 1       | 0    | 0     | Infinity",
+            "1% + 18% GST                             | 1       | 0    | 0     | Infinity",
+            "Rs 999                                   | 0       | 999  | 0     | Infinity",
+            "Rs 999 - 1,999                           | 0       | 1999 | 0     | Infinity",
+            "Rs 999 + 0.5%                            | 0.5     | 999  | 0     | Infinity",
+            "0.5% (max Rs 10,000)                     | 0.5     | 0    | 0     | 10000",
+            "0.5% upto Rs 10k                         | 0.5     | 0    | 0     | 10000",
+            "1% capped at Rs 25,000                   | 1       | 0    | 0     | 25000",
+            "1% (min Rs 5,000)                        | 1       | 0    | 5000  | Infinity",
+            "1% (min Rs 5,000, max Rs 50,000)         | 1       | 0    | 5000  | 50000",
+            "1% or Rs 5,000 whichever is higher       | 1       | 0    | 5000  | Infinity",
+            "2% or Rs 1 Lakh whichever is lower       | 2       | 0    | 0     | 100000",
+            "Nil                                      | 0       | 0    | 0     | Infinity",
+    })
+    void splitsFeeIntoParts(String text, double percent, double flat, double floor, double cap) {
+        LoanTermsParser.Fee fee = LoanTermsParser.parseFee(text);
+
+        assertEquals(percent, fee.percent(), 1e-9, "percent of " + text);
+        assertEquals(flat, fee.flat(), 1e-9, "flat of " + text);
+        assertEquals(floor, fee.floor(), 1e-9, "floor of " + text);
+        assertEquals(cap, fee.cap(), 1e-9, "cap of " + text);
+    }
+
+    @Test
+    void rangeIsNotReadAsACap() {
+        // Used to come out as 0.5% capped at Rs 1
+        LoanTermsParser.Fee fee = LoanTermsParser.parseFee("0.5% - 1%");
+
+        assertEquals(NO_CAP, fee.cap());
+    }
+
+    @Test
+    void unitNeedsAWordBoundary() {
+        // "l" of "less" is not lakh
+        assertEquals(10_000, LoanTermsParser.parseFee("Rs 10,000 less").flat(), 1e-9);
+    }
+}